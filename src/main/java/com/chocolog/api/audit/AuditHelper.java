@@ -5,28 +5,41 @@ import com.chocolog.api.model.Employee;
 import com.chocolog.api.repository.AuditRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Component
 public class AuditHelper {
     private static AuditRepository staticAuditRepository;
     private static AuditorAware<Employee> staticAuditorAware;
+    private static EntityManager staticEntityManager;
     private static final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
     private final AuditRepository auditRepository;
     private final AuditorAware<Employee> auditorAware;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @PostConstruct
     public void init() {
         AuditHelper.staticAuditRepository = this.auditRepository;
         AuditHelper.staticAuditorAware = this.auditorAware;
+        AuditHelper.staticEntityManager = this.entityManager;
     }
 
     public static void saveAudit(Object entity, String action) {
@@ -54,7 +67,69 @@ public class AuditHelper {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            staticAuditRepository.save(audit);
+            store(audit);
+        });
+    }
+
+    /**
+     * Records a single audit row for a set-based change that bypasses the entity listeners.
+     */
+    public void saveBulkAudit(String entityName, String action, Object changedData) {
+        auditorAware.getCurrentAuditor().ifPresent(employee -> {
+            String serializedData;
+            try {
+                serializedData = objectMapper.writeValueAsString(changedData);
+            } catch (Exception e) {
+                serializedData = "Error to serialize data.";
+            }
+
+            Audit audit = Audit.builder()
+                    .employee(employee)
+                    .entityName(entityName)
+                    .action(action)
+                    .changedData(serializedData)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            store(audit);
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Keeps the audit rows of the current transaction and writes them together once its last flush has run, so
+     * they go out as one JDBC batch instead of an insert from inside every entity callback. Outside a transaction
+     * the row is saved right away.
+     */
+    private static void store(Audit audit) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            staticAuditRepository.save(audit);
+            return;
+        }
+
+        PendingAudits pending = (PendingAudits) TransactionSynchronizationManager.getResource(AuditHelper.class);
+        if (pending == null) {
+            pending = new PendingAudits();
+            TransactionSynchronizationManager.bindResource(AuditHelper.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+            staticEntityManager.unwrap(SessionImplementor.class).getActionQueue().registerProcess(pending);
+        }
+        pending.audits.add(audit);
+    }
+
+    private static class PendingAudits implements BeforeTransactionCompletionProcess, TransactionSynchronization {
+
+        private final List<Audit> audits = new ArrayList<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            audits.forEach(session::persist);
+            audits.clear();
+            session.flush();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AuditHelper.class);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.chocolog.api.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves every id sequence past the ids already stored in its table, so rows created while the
+ * entities used IDENTITY columns never collide with pooled sequence values. On MySQL, which has no
+ * sequences, Hibernate backs each generator with a single-row {@code <table>_seq} table.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceMigration {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> TABLES = List.of(
+            "audit", "charges", "customers", "employees", "flavors", "orders", "order_items", "payments",
+            "print_batches", "print_batch_items", "product_prices", "sizes", "stock", "stock_records"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        String databaseProduct = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        for (String table : TABLES) {
+            String sequence = table + "_seq";
+            long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long nextValue = maxId + ALLOCATION_SIZE + 1;
+
+            if ("H2".equalsIgnoreCase(databaseProduct)) {
+                migrateH2Sequence(sequence, nextValue);
+            } else if ("MySQL".equalsIgnoreCase(databaseProduct)) {
+                migrateMySqlSequenceTable(sequence, nextValue);
+            } else {
+                log.warn("Id sequence migration is not supported for {}, skipping {}.", databaseProduct, sequence);
+                return;
+            }
+        }
+    }
+
+    private void migrateH2Sequence(String sequence, long nextValue) {
+        Long current = jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+                Long.class, sequence);
+        if (current != null && current < nextValue) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + nextValue);
+            log.info("Moved sequence {} from {} to {}.", sequence, current, nextValue);
+        }
+    }
+
+    private void migrateMySqlSequenceTable(String sequence, long nextValue) {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + sequence, Integer.class);
+        if (rows == null || rows == 0) {
+            jdbcTemplate.update("INSERT INTO " + sequence + " (next_val) VALUES (?)", nextValue);
+            log.info("Initialized sequence table {} at {}.", sequence, nextValue);
+            return;
+        }
+        int updated = jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", nextValue, nextValue);
+        if (updated > 0) {
+            log.info("Moved sequence table {} to {}.", sequence, nextValue);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.chocolog.api.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sets {@code order_items.printed} on items that were added to a print batch before the column existed.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class PrintedFlagMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        int updated = jdbcTemplate.update("""
+            UPDATE order_items
+            SET printed = true, updated_at = CURRENT_TIMESTAMP
+            WHERE printed = false
+            AND EXISTS (
+                SELECT 1 FROM print_batch_items pbi
+                WHERE pbi.order_item_id = order_items.id
+                AND pbi.active = true
+            )
+        """);
+        if (updated > 0) {
+            log.info("Marked {} order items as printed.", updated);
+        }
+    }
+}
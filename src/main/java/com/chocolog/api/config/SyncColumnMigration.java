@@ -0,0 +1,35 @@
+package com.chocolog.api.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Stamps {@code updated_at} on rows written before the column existed, so the first sync of every client
+ * still receives them.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SyncColumnMigration {
+
+    private static final List<String> TABLES = List.of("orders", "order_items", "charges", "payments");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        for (String table : TABLES) {
+            int updated = jdbcTemplate.update("UPDATE " + table + " SET updated_at = CURRENT_TIMESTAMP WHERE updated_at IS NULL");
+            if (updated > 0) {
+                log.info("Stamped updated_at on {} rows of {}.", updated, table);
+            }
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.chocolog.api.controller;
 
 import com.chocolog.api.dto.request.FlavorRequestDTO;
 import com.chocolog.api.dto.request.FlavorPatchRequestDTO;
+import com.chocolog.api.dto.request.PriceAdjustmentRequestDTO;
 import com.chocolog.api.dto.response.FlavorResponseDTO;
+import com.chocolog.api.dto.response.PriceAdjustmentResponseDTO;
+import com.chocolog.api.service.FlavorCatalog;
 import com.chocolog.api.service.FlavorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -29,26 +33,39 @@ public class FlavorController {
 
     private final FlavorService flavorService;
 
-    @Operation(summary = "Listar todos os sabores", description = "Retorna uma lista com todos os sabores cadastrados")
+    @Operation(summary = "Listar todos os sabores",
+            description = "Retorna uma lista com todos os sabores cadastrados. Envie o ETag recebido em If-None-Match para receber 304 quando o catálogo não mudou")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de sabores retornada com sucesso",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = FlavorResponseDTO.class)))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = FlavorResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde o ETag informado", content = @Content)
     })
     @GetMapping
-    public ResponseEntity<List<FlavorResponseDTO>> getAllFlavors() {
-        return ResponseEntity.ok(flavorService.findAll());
+    public ResponseEntity<List<FlavorResponseDTO>> getAllFlavors(WebRequest request) {
+        FlavorCatalog.Snapshot catalog = flavorService.findCatalog();
+        if (request.checkNotModified(catalog.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(catalog.etag()).body(catalog.flavors());
     }
 
     @Operation(summary = "Buscar sabor por ID", description = "Retorna um sabor específico pelo seu ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Sabor encontrado com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = FlavorResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde o ETag informado", content = @Content),
             @ApiResponse(responseCode = "404", description = "Sabor não encontrado", content = @Content)
     })
     @GetMapping("/{id}")
     public ResponseEntity<FlavorResponseDTO> getFlavorById(
-            @Parameter(description = "ID do sabor") @PathVariable Long id) {
-        return ResponseEntity.ok(flavorService.findById(id));
+            @Parameter(description = "ID do sabor") @PathVariable Long id,
+            WebRequest request) {
+        FlavorCatalog.Snapshot catalog = flavorService.findCatalog();
+        FlavorResponseDTO flavor = flavorService.findById(id);
+        if (request.checkNotModified(catalog.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(catalog.etag()).body(flavor);
     }
 
     @Operation(summary = "Criar novo sabor", description = "Cria um novo sabor no sistema")
@@ -84,6 +101,19 @@ public class FlavorController {
         return ResponseEntity.ok(flavorService.update(id, flavorDTO));
     }
 
+    @Operation(summary = "Reajustar preços em lote",
+            description = "Aplica um reajuste percentual ou absoluto aos preços de venda e/ou custo dos sabores e tamanhos selecionados. Listas vazias selecionam todos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Preços reajustados com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PriceAdjustmentResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou reajuste deixaria preços negativos", content = @Content)
+    })
+    @PatchMapping("/prices")
+    public ResponseEntity<PriceAdjustmentResponseDTO> adjustPrices(
+            @Valid @RequestBody PriceAdjustmentRequestDTO adjustmentDTO) {
+        return ResponseEntity.ok(flavorService.adjustPrices(adjustmentDTO));
+    }
+
     @Operation(summary = "Deletar sabor", description = "Remove um sabor do sistema")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Sabor deletado com sucesso", content = @Content),
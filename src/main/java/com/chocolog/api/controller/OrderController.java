@@ -1,11 +1,21 @@
 package com.chocolog.api.controller;
 
+import com.chocolog.api.dto.request.OrderItemBulkStatusRequestDTO;
+import com.chocolog.api.dto.request.OrderQuoteRequestDTO;
+import com.chocolog.api.dto.request.OrderSearchRequestDTO;
 import com.chocolog.api.dto.request.PrintBatchRequestDTO;
+import com.chocolog.api.dto.request.ProductionBoardRequestDTO;
 import com.chocolog.api.dto.response.*;
+import com.chocolog.api.dto.response.sync.SyncResponseDTO;
 import com.chocolog.api.security.AppUserDetails;
+import com.chocolog.api.service.OrderImportService;
+import com.chocolog.api.service.OrderEventBroadcaster;
 import com.chocolog.api.service.OrderItemService;
+import com.chocolog.api.service.OrderQuoteService;
 import com.chocolog.api.service.OrderService;
+import com.chocolog.api.service.OrderSyncService;
 import com.chocolog.api.service.PrintBatchService;
+import com.chocolog.api.service.ProductionPlanningService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,15 +25,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +51,11 @@ public class OrderController {
     private final OrderService orderService;
     private final OrderItemService orderItemService;
     private final PrintBatchService printBatchService;
+    private final OrderImportService orderImportService;
+    private final OrderEventBroadcaster orderEventBroadcaster;
+    private final OrderSyncService orderSyncService;
+    private final OrderQuoteService orderQuoteService;
+    private final ProductionPlanningService productionPlanningService;
 
     @Operation(summary = "Buscar pedidos por data", description = "Retorna todos os pedidos filtrados por data")
     @ApiResponses(value = {
@@ -49,6 +69,71 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(summary = "Pesquisar pedidos", description = "Pesquisa pedidos por status, cliente, funcionário, status da cobrança, período de criação ou retirada e itens sob demanda, com paginação por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Filtros ou cursor inválidos", content = @Content)
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDTO<OrderResponseDTO>> searchOrders(
+            @Valid @ParameterObject OrderSearchRequestDTO searchDTO) {
+        return ResponseEntity.ok(orderService.search(searchDTO));
+    }
+
+    @Operation(summary = "Simular pedido", description = "Calcula preços, classificação sob demanda, disponibilidade de estoque e efeito do desconto de um pedido sem salvá-lo nem reservar estoque")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Simulação calculada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderQuoteResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Tamanho, sabor ou preço não encontrado", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content)
+    })
+    @PostMapping("/quote")
+    public ResponseEntity<OrderQuoteResponseDTO> quoteOrder(@Valid @RequestBody OrderQuoteRequestDTO quoteDTO) {
+        return ResponseEntity.ok(orderQuoteService.quote(quoteDTO));
+    }
+
+    @Operation(summary = "Acompanhar alterações de pedidos", description = "Abre um fluxo de eventos (Server-Sent Events) com as alterações confirmadas de pedidos, itens, estoque e lotes de impressão")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fluxo de eventos aberto",
+                    content = @Content(mediaType = "text/event-stream"))
+    })
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents() {
+        return orderEventBroadcaster.subscribe();
+    }
+
+    @Operation(summary = "Sincronizar alterações de pedidos", description = "Retorna pedidos, itens, cobranças e pagamentos alterados ou excluídos desde o cursor informado. Sem cursor, retorna tudo desde o início; o próximo cursor deve ser enviado até que não haja mais páginas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = SyncResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos", content = @Content)
+    })
+    @GetMapping("/sync")
+    public ResponseEntity<SyncResponseDTO> syncOrders(
+            @Parameter(description = "Cursor retornado pela sincronização anterior") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Quantidade máxima de registros por tabela (1 a 1000)") @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(orderSyncService.findChangesSince(cursor, size));
+    }
+
+    @Operation(summary = "Importar pedidos em lote", description = "Importa pedidos a partir de um arquivo CSV ou NDJSON, uma linha por item. Linhas consecutivas com a mesma referência formam um pedido, que é rejeitado por inteiro se alguma linha for inválida ou divergir nos dados do pedido. Uma referência que reaparece depois de outra é rejeitada")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação processada, com o resultado de cada linha",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderImportResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Formato de arquivo inválido", content = @Content)
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<OrderImportResponseDTO> importOrders(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            Authentication authentication) {
+        AppUserDetails userDetails = (AppUserDetails) authentication.getPrincipal();
+        Long employeeId = userDetails.getEmployeeId();
+
+        OrderImportResponseDTO result = orderImportService.importOrders(body, MediaType.parseMediaType(contentType), employeeId);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Listar itens de pedidos", description = "Retorna todos os itens de pedidos, opcionalmente filtrados por sob demanda")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de itens retornada com sucesso",
@@ -61,6 +146,44 @@ public class OrderController {
         return ResponseEntity.ok(items);
     }
 
+    @Operation(summary = "Quadro de produção", description = "Pesquisa itens de pedidos por status, período de retirada, impressão, sob demanda, tamanho e sabor, ordenados pela data de retirada, com paginação por cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de itens retornada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Filtros ou cursor inválidos", content = @Content)
+    })
+    @GetMapping("/items/board")
+    public ResponseEntity<CursorPageResponseDTO<OrderItemResponseDTO>> getProductionBoard(
+            @Valid @ParameterObject ProductionBoardRequestDTO boardDTO) {
+        return ResponseEntity.ok(orderItemService.findProductionBoard(boardDTO));
+    }
+
+    @Operation(summary = "Planejamento de produção", description = "Soma os itens sob demanda pendentes por dia de retirada, tamanho e combinação de sabores, descontando o estoque livre dos itens de um sabor. Sem datas, considera os próximos 14 dias")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Planejamento retornado com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductionPlanResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Período inválido", content = @Content)
+    })
+    @GetMapping("/items/planning")
+    public ResponseEntity<List<ProductionPlanResponseDTO>> getProductionPlan(
+            @Parameter(description = "Data inicial de retirada no formato yyyy-MM-dd") @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Data final de retirada no formato yyyy-MM-dd") @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(productionPlanningService.findPlan(from, to));
+    }
+
+    @Operation(summary = "Atualizar status de itens em lote", description = "Altera o status de vários itens de pedidos de uma vez, com as mesmas regras da atualização de um item. Nenhum item é alterado se algum deles for inválido")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Itens atualizados com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderItemResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Item não encontrado", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou transição de status não permitida", content = @Content)
+    })
+    @PatchMapping("/items/status")
+    public ResponseEntity<List<OrderItemResponseDTO>> updateOrderItemsStatus(
+            @Valid @RequestBody OrderItemBulkStatusRequestDTO bulkDTO) {
+        return ResponseEntity.ok(orderItemService.updateStatuses(bulkDTO));
+    }
+
     @Operation(summary = "Listar lotes de impressão", description = "Retorna todos os lotes de impressão cadastrados")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de lotes retornada com sucesso",
@@ -33,7 +33,9 @@ public class ReportController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Relatórios gerados com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReportsDTO.class))),
-            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Muitos relatórios em execução; tente novamente após o tempo indicado em Retry-After", content = @Content),
+            @ApiResponse(responseCode = "504", description = "Uma consulta do relatório excedeu o tempo limite", content = @Content)
     })
     @GetMapping("/dashboard")
     public ResponseEntity<ReportsDTO> getDashboardReports(
@@ -0,0 +1,26 @@
+package com.chocolog.api.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderImportRowDTO {
+
+    private String reference;
+    private Long customerId;
+    private LocalDateTime expectedPickupDate;
+    private String notes;
+    private BigDecimal discount;
+    private Long sizeId;
+    private Long flavor1Id;
+    private Long flavor2Id;
+    private Integer quantity;
+    private String itemNotes;
+
+}
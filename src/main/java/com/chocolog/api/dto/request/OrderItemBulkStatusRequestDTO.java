@@ -0,0 +1,28 @@
+package com.chocolog.api.dto.request;
+
+import com.chocolog.api.validation.ValidOrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderItemBulkStatusRequestDTO {
+
+    @NotEmpty(message = "Order item IDs cannot be empty")
+    @Size(max = 500, message = "At most 500 order items can be updated at once")
+    private List<Long> orderItemIds;
+
+    @NotNull(message = "Status cannot be null")
+    @ValidOrderStatus
+    private String status;
+
+}
@@ -0,0 +1,22 @@
+package com.chocolog.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+public class OrderQuoteRequestDTO {
+
+    private BigDecimal discount;
+
+    @NotEmpty(message = "Quote must have at least one item")
+    @Size(max = 200, message = "Quote must have at most 200 items")
+    private List<@Valid OrderItemRequestDTO> orderItems;
+
+}
@@ -0,0 +1,52 @@
+package com.chocolog.api.dto.request;
+
+import com.chocolog.api.validation.ValidOrderStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class OrderSearchRequestDTO {
+
+    @ValidOrderStatus
+    private String status;
+
+    private Long customerId;
+    private Long employeeId;
+
+    @Pattern(regexp = "(?i)PAID|UNPAID|PARTIAL", message = "Invalid charge status. Must be one of: PAID, UNPAID, PARTIAL")
+    private String chargeStatus;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate pickupFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate pickupTo;
+
+    private Boolean onDemand;
+
+    @Pattern(regexp = "creationDate|expectedPickupDate", message = "Sort must be creationDate or expectedPickupDate")
+    private String sort = "creationDate";
+
+    @Pattern(regexp = "(?i)ASC|DESC", message = "Direction must be ASC or DESC")
+    private String direction = "DESC";
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 100, message = "Page size must be at most 100")
+    private Integer size = 20;
+
+}
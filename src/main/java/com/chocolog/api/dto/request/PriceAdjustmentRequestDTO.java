@@ -0,0 +1,37 @@
+package com.chocolog.api.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceAdjustmentRequestDTO {
+
+    @Size(max = 500, message = "At most 500 flavors can be adjusted at once")
+    private List<Long> flavorIds;
+
+    @Size(max = 50, message = "At most 50 sizes can be adjusted at once")
+    private List<Long> sizeIds;
+
+    @NotNull(message = "Adjustment type cannot be null")
+    @Pattern(regexp = "PERCENTAGE|ABSOLUTE", message = "Adjustment type must be PERCENTAGE or ABSOLUTE")
+    private String type;
+
+    @NotNull(message = "Adjustment value cannot be null")
+    private BigDecimal value;
+
+    private boolean salePrice = true;
+
+    private boolean costPrice = false;
+
+}
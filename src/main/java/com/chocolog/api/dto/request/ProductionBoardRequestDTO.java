@@ -0,0 +1,36 @@
+package com.chocolog.api.dto.request;
+
+import com.chocolog.api.validation.ValidOrderStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class ProductionBoardRequestDTO {
+
+    @ValidOrderStatus
+    private String status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate pickupFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate pickupTo;
+
+    private Boolean printed;
+    private Boolean onDemand;
+    private Long sizeId;
+    private Long flavorId;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 200, message = "Page size must be at most 200")
+    private Integer size = 50;
+
+}
@@ -0,0 +1,19 @@
+package com.chocolog.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OrderImportResponseDTO {
+
+    private final int totalRows;
+    private final int importedOrders;
+    private final int failedOrders;
+    private final long elapsedMillis;
+    private final double ordersPerMinute;
+    private final List<OrderImportRowResultDTO> rows;
+
+}
@@ -0,0 +1,16 @@
+package com.chocolog.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderImportRowResultDTO {
+
+    private final int line;
+    private final String reference;
+    private final String status;
+    private final Long orderId;
+    private final String message;
+
+}
@@ -0,0 +1,25 @@
+package com.chocolog.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderQuoteItemResponseDTO {
+
+    private final Long sizeId;
+    private final Long flavor1Id;
+    private final Long flavor2Id;
+    private final Integer quantity;
+    private final BigDecimal unitPrice;
+    private final BigDecimal totalPrice;
+    private final boolean onDemand;
+    private final String status;
+    private final Integer availableStock;
+    private final Boolean stockAvailable;
+
+}
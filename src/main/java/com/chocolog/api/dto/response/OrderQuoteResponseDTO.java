@@ -0,0 +1,20 @@
+package com.chocolog.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OrderQuoteResponseDTO {
+
+    private final List<OrderQuoteItemResponseDTO> items;
+    private final BigDecimal subtotalAmount;
+    private final BigDecimal discount;
+    private final BigDecimal totalAmount;
+    private final String status;
+    private final boolean stockAvailable;
+
+}
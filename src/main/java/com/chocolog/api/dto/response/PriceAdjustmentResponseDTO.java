@@ -0,0 +1,12 @@
+package com.chocolog.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PriceAdjustmentResponseDTO {
+
+    private final int updatedPrices;
+
+}
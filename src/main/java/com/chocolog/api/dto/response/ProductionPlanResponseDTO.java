@@ -0,0 +1,25 @@
+package com.chocolog.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductionPlanResponseDTO {
+
+    private final LocalDate pickupDate;
+    private final Long sizeId;
+    private final String sizeName;
+    private final Long flavor1Id;
+    private final String flavor1Name;
+    private final Long flavor2Id;
+    private final String flavor2Name;
+    private final int pendingQuantity;
+    private final Integer availableStock;
+    private final int quantityToProduce;
+
+}
@@ -0,0 +1,23 @@
+package com.chocolog.api.dto.response.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SyncChargeDTO {
+
+    private final Long id;
+    private final Long orderId;
+    private final BigDecimal subtotalAmount;
+    private final BigDecimal discount;
+    private final BigDecimal totalAmount;
+    private final BigDecimal paidAmount;
+    private final String status;
+    private final boolean active;
+    private final LocalDateTime updatedAt;
+
+}
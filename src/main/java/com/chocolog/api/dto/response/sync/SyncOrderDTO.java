@@ -0,0 +1,23 @@
+package com.chocolog.api.dto.response.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SyncOrderDTO {
+
+    private final Long id;
+    private final Long customerId;
+    private final Long employeeId;
+    private final LocalDateTime creationDate;
+    private final LocalDateTime expectedPickupDate;
+    private final LocalDateTime pickupDate;
+    private final String status;
+    private final String notes;
+    private final boolean active;
+    private final LocalDateTime updatedAt;
+
+}
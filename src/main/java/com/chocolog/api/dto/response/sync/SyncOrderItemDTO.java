@@ -0,0 +1,27 @@
+package com.chocolog.api.dto.response.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SyncOrderItemDTO {
+
+    private final Long id;
+    private final Long orderId;
+    private final Long sizeId;
+    private final Long flavor1Id;
+    private final Long flavor2Id;
+    private final Integer quantity;
+    private final BigDecimal unitPrice;
+    private final BigDecimal totalPrice;
+    private final Boolean onDemand;
+    private final String status;
+    private final String notes;
+    private final boolean active;
+    private final LocalDateTime updatedAt;
+
+}
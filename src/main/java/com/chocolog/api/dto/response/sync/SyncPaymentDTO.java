@@ -0,0 +1,22 @@
+package com.chocolog.api.dto.response.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SyncPaymentDTO {
+
+    private final Long id;
+    private final Long chargeId;
+    private final Long employeeId;
+    private final BigDecimal paidAmount;
+    private final LocalDateTime paymentDate;
+    private final String paymentMethod;
+    private final boolean active;
+    private final LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,19 @@
+package com.chocolog.api.dto.response.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SyncResponseDTO {
+
+    private final List<SyncOrderDTO> orders;
+    private final List<SyncOrderItemDTO> orderItems;
+    private final List<SyncChargeDTO> charges;
+    private final List<SyncPaymentDTO> payments;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+}
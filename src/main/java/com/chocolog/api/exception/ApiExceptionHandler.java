@@ -1,6 +1,8 @@
 package com.chocolog.api.controller.handler;
 
+import com.chocolog.api.exception.ReportUnavailableException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -24,4 +26,14 @@ public class ApiExceptionHandler {
         }
         return new ResponseEntity<>(Map.of("error", message), HttpStatus.CONFLICT);
     }
+
+    @ExceptionHandler(ReportUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleReportUnavailable(ReportUnavailableException ex) {
+        if (ex.getReason() == ReportUnavailableException.Reason.TIMED_OUT) {
+            return new ResponseEntity<>(Map.of("error", ex.getMessage()), HttpStatus.GATEWAY_TIMEOUT);
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of("error", ex.getMessage()));
+    }
 }
\ No newline at end of file
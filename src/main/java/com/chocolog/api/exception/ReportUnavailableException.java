@@ -0,0 +1,30 @@
+package com.chocolog.api.exception;
+
+/**
+ * A report could not be produced right now, either because the report pool is saturated or because one of its
+ * queries ran past the timeout. Both are temporary, unlike the client errors mapped to 4xx.
+ */
+public class ReportUnavailableException extends RuntimeException {
+
+    public enum Reason {
+        BUSY,
+        TIMED_OUT
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public ReportUnavailableException(Reason reason, String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
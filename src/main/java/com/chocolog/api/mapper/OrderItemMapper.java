@@ -15,6 +15,7 @@ public interface OrderItemMapper {
     @Mapping(source = "flavor1.name", target = "flavor1Name")
     @Mapping(source = "flavor2.id", target = "flavor2Id")
     @Mapping(source = "flavor2.name", target = "flavor2Name")
+    @Mapping(source = "printed", target = "isPrinted")
     OrderItemResponseDTO toResponseDTO(OrderItem orderItem);
 
 }
\ No newline at end of file
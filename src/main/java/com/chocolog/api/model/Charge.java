@@ -5,11 +5,14 @@ import com.chocolog.api.audit.Auditable;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
 import lombok.*;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,17 +23,21 @@ import java.util.List;
 @NoArgsConstructor
 @ToString
 @Entity
-@Table(name = "charges")
-@SQLDelete(sql = "UPDATE charges SET active = false WHERE id = ?")
+@Table(name = "charges", indexes = {
+        @Index(name = "idx_charges_order_status", columnList = "order_id, status"),
+        @Index(name = "idx_charges_updated", columnList = "updated_at, id")
+})
+@SQLDelete(sql = "UPDATE charges SET active = false, updated_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "active = true")
 @EntityListeners(AuditListener.class)
 public class Charge implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charges_seq")
+    @SequenceGenerator(name = "charges_seq", sequenceName = "charges_seq", allocationSize = 50)
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     @JsonBackReference("order-charge")
     private Order order;
@@ -39,12 +46,23 @@ public class Charge implements Auditable {
     private BigDecimal discount;
     private BigDecimal totalAmount;
 
+    /**
+     * Running total of the active payments. Only written on insert and by the atomic updates in
+     * {@code ChargeRepository}, so a stale copy of the charge can never overwrite a concurrent payment.
+     */
+    @Builder.Default
+    @Column(updatable = false)
+    private BigDecimal paidAmount = BigDecimal.ZERO;
+
     @Enumerated(EnumType.STRING)
     private ChargeStatus status;
 
     @Builder.Default
     private boolean active = true;
 
+    @UpdateTimestamp(source = SourceType.DB)
+    private LocalDateTime updatedAt;
+
     @Builder.Default
     @OneToMany(mappedBy = "charge")
     @JsonManagedReference("charge-payments")
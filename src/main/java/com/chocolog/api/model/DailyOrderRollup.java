@@ -0,0 +1,34 @@
+package com.chocolog.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Orders and their charges per order creation day and order status, excluding deleted orders. Charged and
+ * received amounts belong to the whole order, so they are kept here rather than split across
+ * {@link DailySalesRollup} rows.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Entity
+@Table(name = "daily_order_rollup")
+public class DailyOrderRollup {
+
+    @EmbeddedId
+    private DailyOrderRollupId id;
+
+    @Column(length = 8)
+    private String salesWeek;
+    @Column(length = 7)
+    private String salesMonth;
+
+    private Long orderCount;
+    private BigDecimal chargedAmount;
+    private BigDecimal receivedAmount;
+}
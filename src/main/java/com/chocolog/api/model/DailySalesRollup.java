@@ -0,0 +1,40 @@
+package com.chocolog.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Items sold per order creation day, flavor, size and on-demand flag, excluding cancelled and deleted orders.
+ * Rows are derived from {@code orders}, {@code order_items} and {@code product_prices} and rewritten by
+ * {@code DailySalesRollupService}; they are never edited directly.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Entity
+@Table(name = "daily_sales_rollup")
+public class DailySalesRollup {
+
+    @EmbeddedId
+    private DailySalesRollupId id;
+
+    @Column(length = 8)
+    private String salesWeek;
+    @Column(length = 7)
+    private String salesMonth;
+
+    private Integer quantity;
+    private BigDecimal revenue;
+
+    /**
+     * Cost and profit of the items that have a cost price. Items without one are left out of both rather than
+     * counted as pure profit, as the estimated profit report always did.
+     */
+    private BigDecimal cost;
+    private BigDecimal profit;
+}
@@ -0,0 +1,31 @@
+package com.chocolog.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class DailySalesRollupId implements Serializable {
+
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(name = "flavor_id")
+    private Long flavorId;
+
+    @Column(name = "size_id")
+    private Long sizeId;
+
+    @Column(name = "on_demand")
+    private boolean onDemand;
+}
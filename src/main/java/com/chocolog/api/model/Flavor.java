@@ -26,7 +26,8 @@ import java.util.List;
 public class Flavor implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "flavors_seq")
+    @SequenceGenerator(name = "flavors_seq", sequenceName = "flavors_seq", allocationSize = 50)
     private Long id;
 
     private String name;
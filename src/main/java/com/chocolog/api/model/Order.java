@@ -5,10 +5,13 @@ import com.chocolog.api.audit.Auditable;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
 import lombok.*;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,27 +22,65 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "orders")
-@SQLDelete(sql = "UPDATE orders SET active = false WHERE id = ?")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_active_creation", columnList = "active, creation_date, id"),
+        @Index(name = "idx_orders_active_pickup", columnList = "active, expected_pickup_date, id"),
+        @Index(name = "idx_orders_status_pickup", columnList = "status, expected_pickup_date, id"),
+        @Index(name = "idx_orders_customer_creation", columnList = "customer_id, creation_date, id"),
+        @Index(name = "idx_orders_employee_creation", columnList = "employee_id, creation_date, id"),
+        @Index(name = "idx_orders_updated", columnList = "updated_at, id"),
+        @Index(name = "idx_orders_creation_day", columnList = "creation_day, status")
+})
+@NamedEntityGraph(
+        name = "Order.details",
+        attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode("employee"),
+                @NamedAttributeNode("charges"),
+                @NamedAttributeNode(value = "orderItems", subgraph = "orderItems")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "orderItems",
+                attributeNodes = {
+                        @NamedAttributeNode("size"),
+                        @NamedAttributeNode("flavor1"),
+                        @NamedAttributeNode("flavor2")
+                }
+        )
+)
+@SQLDelete(sql = "UPDATE orders SET active = false, updated_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "active = true")
 @EntityListeners(AuditListener.class)
 public class Order implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id")
     @JsonBackReference("customer-orders")
     private Customer customer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     @JsonBackReference("employee-orders")
     private Employee employee;
 
     private LocalDateTime creationDate;
+
+    /**
+     * Report buckets of {@link #creationDate}, kept in columns so rollups filter and group on plain values instead
+     * of database-specific date functions. Only the day is indexed, as every rollup query selects a range of days.
+     * Filled from the creation date on every insert and update.
+     */
+    private LocalDate creationDay;
+    @Column(length = 8)
+    private String creationWeek;
+    @Column(length = 7)
+    private String creationMonth;
+
     private LocalDateTime expectedPickupDate;
     private LocalDateTime pickupDate;
 
@@ -52,6 +93,9 @@ public class Order implements Auditable {
     @Builder.Default
     private boolean active = true;
 
+    @UpdateTimestamp(source = SourceType.DB)
+    private LocalDateTime updatedAt;
+
     @Builder.Default
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference("order-orderitems")
@@ -61,6 +105,18 @@ public class Order implements Auditable {
     @JsonManagedReference("order-charge")
     private Charge charges;
 
+    @PrePersist
+    @PreUpdate
+    void fillPeriodBuckets() {
+        if (creationDate == null) {
+            return;
+        }
+        LocalDate day = creationDate.toLocalDate();
+        this.creationDay = day;
+        this.creationWeek = PeriodType.WEEK.bucketOf(day);
+        this.creationMonth = PeriodType.MONTH.bucketOf(day);
+    }
+
     @Override
     public Long getId() {
         return this.id;
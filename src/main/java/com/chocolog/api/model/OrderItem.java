@@ -4,11 +4,14 @@ import com.chocolog.api.audit.AuditListener;
 import com.chocolog.api.audit.Auditable;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
 import lombok.*;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
@@ -16,32 +19,38 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "order_items")
-@SQLDelete(sql = "UPDATE order_items SET active = false WHERE id = ?")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order_on_demand", columnList = "order_id, on_demand"),
+        @Index(name = "idx_order_items_board", columnList = "active, printed, status"),
+        @Index(name = "idx_order_items_status_on_demand", columnList = "status, on_demand, order_id"),
+        @Index(name = "idx_order_items_updated", columnList = "updated_at, id")
+})
+@SQLDelete(sql = "UPDATE order_items SET active = false, updated_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "active = true")
 @EntityListeners(AuditListener.class)
 public class OrderItem implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     @JsonBackReference("order-orderitems")
     private Order order;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "size_id")
     @JsonBackReference("size-orderitems")
     private Size size;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "flavor1_id")
     @JsonBackReference("flavor1-orderitem")
     private Flavor flavor1;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "flavor2_id", nullable = true)
     @JsonBackReference("flavor2-orderitem")
     private Flavor flavor2;
@@ -57,9 +66,16 @@ public class OrderItem implements Auditable {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean printed = false;
+
     @Builder.Default
     private boolean active = true;
 
+    @UpdateTimestamp(source = SourceType.DB)
+    private LocalDateTime updatedAt;
+
     @Override
     public Long getId() {
         return this.id;
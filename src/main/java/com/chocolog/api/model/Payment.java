@@ -4,6 +4,8 @@ import com.chocolog.api.audit.AuditListener;
 import com.chocolog.api.audit.Auditable;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
 import lombok.*;
 
@@ -18,22 +20,26 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @ToString
 @Entity
-@Table(name = "payments")
-@SQLDelete(sql = "UPDATE payments SET active = false WHERE id = ?")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_updated", columnList = "updated_at, id"),
+        @Index(name = "idx_payments_date", columnList = "payment_date")
+})
+@SQLDelete(sql = "UPDATE payments SET active = false, updated_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "active = true")
 @EntityListeners(AuditListener.class)
 public class Payment implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "charge_id")
     @JsonBackReference("charge-payments")
     private Charge charge;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     @JsonBackReference("employee-payments")
     private Employee employee;
@@ -45,6 +51,9 @@ public class Payment implements Auditable {
     @Builder.Default
     private boolean active = true;
 
+    @UpdateTimestamp(source = SourceType.DB)
+    private LocalDateTime updatedAt;
+
     @Override
     public Long getId() {
         return this.id;
@@ -1,7 +1,22 @@
 package com.chocolog.api.model;
 
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
 public enum PeriodType {
     DAY,
     WEEK,
-    MONTH
-}
\ No newline at end of file
+    MONTH;
+
+    /**
+     * Label of the period containing the date: {@code 2025-03-10} for days, the ISO week {@code 2025-W11} for
+     * weeks and {@code 2025-03} for months. Labels of the same type sort in chronological order.
+     */
+    public String bucketOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date.toString();
+            case WEEK -> String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTH -> String.format("%d-%02d", date.getYear(), date.getMonthValue());
+        };
+    }
+}
@@ -27,7 +27,8 @@ import java.util.List;
 public class PrintBatch implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "print_batches_seq")
+    @SequenceGenerator(name = "print_batches_seq", sequenceName = "print_batches_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
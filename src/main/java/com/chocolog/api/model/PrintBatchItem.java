@@ -23,15 +23,16 @@ import jakarta.persistence.*;
 public class PrintBatchItem implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "print_batch_items_seq")
+    @SequenceGenerator(name = "print_batch_items_seq", sequenceName = "print_batch_items_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "print_batch_id")
     @JsonBackReference("batch-items")
     private PrintBatch printBatch;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_item_id")
     private OrderItem orderItem;
 
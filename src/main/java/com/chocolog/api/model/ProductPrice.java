@@ -24,15 +24,16 @@ import java.math.BigDecimal;
 public class ProductPrice implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_prices_seq")
+    @SequenceGenerator(name = "product_prices_seq", sequenceName = "product_prices_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "flavor_id")
     @JsonBackReference("flavor-prices")
     private Flavor flavor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "size_id")
     @JsonBackReference("size-prices")
     private Size size;
@@ -26,7 +26,8 @@ import java.util.List;
 public class Size implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sizes_seq")
+    @SequenceGenerator(name = "sizes_seq", sequenceName = "sizes_seq", allocationSize = 50)
     private Long id;
 
     private String name;
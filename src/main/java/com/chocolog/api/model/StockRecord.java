@@ -25,15 +25,16 @@ import java.time.LocalDateTime;
 public class StockRecord implements Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_records_seq")
+    @SequenceGenerator(name = "stock_records_seq", sequenceName = "stock_records_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "flavor_id")
     @JsonBackReference("flavor-stockrecords")
     private Flavor flavor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "size_id")
     @JsonBackReference("size-stockrecords")
     private Size size;
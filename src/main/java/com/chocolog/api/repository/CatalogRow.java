@@ -0,0 +1,11 @@
+package com.chocolog.api.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * One flavor and size of the catalog with its price and stock, which are null when not registered.
+ */
+public record CatalogRow(Long flavorId, String flavorName, Long sizeId, String sizeName,
+                         BigDecimal salePrice, BigDecimal costPrice,
+                         Integer totalQuantity, Integer remainingQuantity) {
+}
@@ -2,11 +2,13 @@ package com.chocolog.api.repository;
 
 import com.chocolog.api.model.Charge;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,13 +17,55 @@ public interface ChargeRepository extends JpaRepository<Charge, Long> {
     Optional<Charge> findByOrderId(Long orderId);
 
     @Query("""
-        SELECT SUM(c.totalAmount)
+        SELECT c
         FROM Charge c
-        JOIN c.order o
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.status != 'CANCELLED'
-        AND c.active = true
-        AND o.active = true
+        LEFT JOIN FETCH c.payments
+        WHERE c.id IN :chargeIds
     """)
-    BigDecimal sumTotalAmountForOrders(LocalDateTime startDate, LocalDateTime endDate);
+    List<Charge> findWithPaymentsByIdIn(Collection<Long> chargeIds);
+
+    @Query(value = """
+        SELECT c.id
+        FROM charges c
+        LEFT JOIN (
+            SELECT p.charge_id, SUM(p.paid_amount) AS paid
+            FROM payments p
+            WHERE p.active = true
+            GROUP BY p.charge_id
+        ) totals ON totals.charge_id = c.id
+        WHERE c.paid_amount IS NULL
+        OR c.paid_amount <> COALESCE(totals.paid, 0)
+    """, nativeQuery = true)
+    List<Long> findIdsWithPaidAmountMismatch();
+
+    @Modifying
+    @Query(value = """
+        UPDATE charges c
+        SET paid_amount = (
+            SELECT COALESCE(SUM(p.paid_amount), 0)
+            FROM payments p
+            WHERE p.charge_id = c.id
+            AND p.active = true
+        ),
+        updated_at = CURRENT_TIMESTAMP
+        WHERE c.id IN :chargeIds
+    """, nativeQuery = true)
+    int recalculatePaidAmount(Collection<Long> chargeIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE charges
+        SET paid_amount = paid_amount + :delta,
+        updated_at = CURRENT_TIMESTAMP
+        WHERE id = :chargeId
+    """, nativeQuery = true)
+    int addToPaidAmount(Long chargeId, BigDecimal delta);
+
+    @Query(value = """
+        SELECT paid_amount
+        FROM charges
+        WHERE id = :chargeId
+        FOR UPDATE
+    """, nativeQuery = true)
+    BigDecimal lockPaidAmount(Long chargeId);
 }
\ No newline at end of file
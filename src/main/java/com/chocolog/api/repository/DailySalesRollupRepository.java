@@ -0,0 +1,141 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.model.DailySalesRollup;
+import com.chocolog.api.model.DailySalesRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailySalesRollupRepository extends JpaRepository<DailySalesRollup, DailySalesRollupId> {
+
+    @Query(value = """
+        SELECT DISTINCT CAST(o.creation_day AS CHAR(10))
+        FROM orders o
+        WHERE o.id IN :orderIds
+        AND o.creation_day IS NOT NULL
+    """, nativeQuery = true)
+    List<String> findRawCreationDates(Collection<Long> orderIds);
+
+    /**
+     * Creation days of the orders, soft-deleted ones included, since their rows still have to leave the rollups.
+     */
+    default List<LocalDate> findCreationDates(Collection<Long> orderIds) {
+        return findRawCreationDates(orderIds).stream()
+                .map(LocalDate::parse)
+                .toList();
+    }
+
+    @Query("SELECT MIN(o.creationDay) FROM Order o")
+    Optional<LocalDate> findFirstCreationDate();
+
+    @Query("SELECT COUNT(r) FROM DailyOrderRollup r")
+    long countOrderRollups();
+
+    @Query("SELECT COUNT(r) FROM DailyOrderRollup r WHERE r.salesWeek IS NULL OR r.salesMonth IS NULL")
+    long countOrderRollupsWithoutPeriodBuckets();
+
+    @Query("SELECT COUNT(r) FROM DailySalesRollup r WHERE r.profit IS NULL")
+    long countSalesRollupsWithoutProfit();
+
+    @Query("""
+        SELECT DISTINCT CAST(o.creationDate AS LocalDate)
+        FROM Order o
+        WHERE o.creationDay IS NULL AND o.creationDate IS NOT NULL
+    """)
+    List<LocalDate> findCreationDatesWithoutPeriodBuckets();
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.creationDay = :day, o.creationWeek = :week, o.creationMonth = :month
+        WHERE o.creationDay IS NULL
+        AND o.creationDate >= :startDate AND o.creationDate < :endDate
+    """)
+    int fillPeriodBuckets(LocalDate day, String week, String month, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        DELETE FROM daily_sales_rollup
+        WHERE sales_date >= :startDate AND sales_date < :endDate
+    """, nativeQuery = true)
+    int deleteSalesBetween(LocalDate startDate, LocalDate endDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO daily_sales_rollup (sales_date, sales_week, sales_month, flavor_id, size_id, on_demand, quantity, revenue, cost, profit)
+        SELECT
+            o.creation_day,
+            o.creation_week,
+            o.creation_month,
+            oi.flavor1_id,
+            oi.size_id,
+            COALESCE(oi.on_demand, FALSE),
+            SUM(oi.quantity),
+            SUM(COALESCE(oi.total_price, 0)),
+            SUM(oi.quantity * pp.cost_price),
+            COALESCE(SUM(oi.total_price - oi.quantity * pp.cost_price), 0)
+        FROM order_items oi
+        JOIN orders o ON o.id = oi.order_id
+        LEFT JOIN product_prices pp ON pp.flavor_id = oi.flavor1_id AND pp.size_id = oi.size_id AND pp.active = TRUE
+        WHERE o.creation_day >= :startDate AND o.creation_day < :endDate
+        AND o.status <> 'CANCELLED'
+        AND o.active = TRUE AND oi.active = TRUE
+        GROUP BY o.creation_day, o.creation_week, o.creation_month, oi.flavor1_id, oi.size_id, COALESCE(oi.on_demand, FALSE)
+    """, nativeQuery = true)
+    int insertSalesBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Recomputes cost and profit of every sales rollup row from the current cost prices, as
+     * {@link #insertSalesBetween} would, without re-aggregating the order items.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE daily_sales_rollup
+        SET cost = quantity * (
+                SELECT pp.cost_price FROM product_prices pp
+                WHERE pp.flavor_id = daily_sales_rollup.flavor_id AND pp.size_id = daily_sales_rollup.size_id
+                AND pp.active = TRUE
+            ),
+            profit = COALESCE(revenue - quantity * (
+                SELECT pp.cost_price FROM product_prices pp
+                WHERE pp.flavor_id = daily_sales_rollup.flavor_id AND pp.size_id = daily_sales_rollup.size_id
+                AND pp.active = TRUE
+            ), 0)
+    """, nativeQuery = true)
+    int refreshCosts();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        DELETE FROM daily_order_rollup
+        WHERE sales_date >= :startDate AND sales_date < :endDate
+    """, nativeQuery = true)
+    int deleteOrdersBetween(LocalDate startDate, LocalDate endDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO daily_order_rollup (sales_date, sales_week, sales_month, status, order_count, charged_amount, received_amount)
+        SELECT
+            o.creation_day,
+            o.creation_week,
+            o.creation_month,
+            o.status,
+            COUNT(o.id),
+            SUM(COALESCE(c.total_amount, 0)),
+            SUM(COALESCE(c.paid_amount, 0))
+        FROM orders o
+        LEFT JOIN charges c ON c.order_id = o.id AND c.active = TRUE
+        WHERE o.creation_day >= :startDate AND o.creation_day < :endDate
+        AND o.active = TRUE
+        GROUP BY o.creation_day, o.creation_week, o.creation_month, o.status
+    """, nativeQuery = true)
+    int insertOrdersBetween(LocalDate startDate, LocalDate endDate);
+
+}
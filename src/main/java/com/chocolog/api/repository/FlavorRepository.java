@@ -2,8 +2,10 @@ package com.chocolog.api.repository;
 
 import com.chocolog.api.model.Flavor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +13,19 @@ public interface FlavorRepository extends JpaRepository<Flavor, Long> {
 
     Optional<Flavor> findByName(String name);
 
-}
\ No newline at end of file
+    @Query("""
+        SELECT new com.chocolog.api.repository.CatalogRow(
+            f.id, f.name, s.id, s.name,
+            pp.salePrice, pp.costPrice,
+            st.totalQuantity, st.remainingQuantity
+        )
+        FROM Flavor f
+        CROSS JOIN Size s
+        LEFT JOIN ProductPrice pp ON pp.flavor = f AND pp.size = s AND pp.active = true
+        LEFT JOIN Stock st ON st.flavor = f AND st.size = s AND st.active = true
+        WHERE f.active = true AND s.active = true
+        ORDER BY f.id, s.id
+    """)
+    List<CatalogRow> findCatalogRows();
+
+}
@@ -0,0 +1,53 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO idempotency_keys (id, request_hash, created_at)
+        VALUES (:id, :requestHash, :createdAt)
+    """, nativeQuery = true)
+    int insertPending(String id, String requestHash, LocalDateTime createdAt);
+
+    /**
+     * Takes over a pending key created before {@code staleBefore}. The creation time is checked again by the update
+     * itself, so when several retries race for the same stale key only one of them gets it.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE IdempotencyRecord r
+        SET r.requestHash = :requestHash, r.createdAt = :createdAt
+        WHERE r.id = :id
+        AND r.responseStatus IS NULL
+        AND r.createdAt < :staleBefore
+    """)
+    int claimStalePending(String id, String requestHash, LocalDateTime createdAt, LocalDateTime staleBefore);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE IdempotencyRecord r
+        SET r.responseStatus = :responseStatus,
+            r.contentType = :contentType,
+            r.location = :location,
+            r.responseBody = :responseBody
+        WHERE r.id = :id
+    """)
+    int complete(String id, Integer responseStatus, String contentType, String location, String responseBody);
+
+    @Modifying
+    @Transactional
+    long deleteByCreatedAtBefore(LocalDateTime cutoffDate);
+}
@@ -2,30 +2,22 @@ package com.chocolog.api.repository;
 
 import com.chocolog.api.dto.response.OrderItemResponseDTO;
 import com.chocolog.api.model.OrderItem;
+import com.chocolog.api.model.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, ProductionBoardRepository {
 
     Optional<OrderItem> findByIdAndOrder_Id(Long itemId, Long orderId);
 
-    @Query("""
-        SELECT CAST(SUM(oi.quantity) AS int)
-        FROM OrderItem oi
-        JOIN oi.order o
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.status != 'CANCELLED'
-        AND o.active = true
-        AND oi.active = true
-    """)
-    Integer sumQuantityForOrders(LocalDateTime startDate, LocalDateTime endDate);
-
     @Query("""
         SELECT new com.chocolog.api.dto.response.OrderItemResponseDTO(
             oi.id,
@@ -40,7 +32,7 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             oi.unitPrice,
             oi.totalPrice,
             oi.onDemand,
-            (EXISTS (SELECT 1 FROM PrintBatchItem pbi WHERE pbi.orderItem = oi)),
+            oi.printed,
             CAST(oi.status AS string),
             oi.notes,
             c.id,
@@ -68,7 +60,7 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             oi.unitPrice,
             oi.totalPrice,
             oi.onDemand,
-            (EXISTS (SELECT 1 FROM PrintBatchItem pbi WHERE pbi.orderItem = oi)),
+            oi.printed,
             CAST(oi.status AS string),
             oi.notes,
             c.id,
@@ -82,4 +74,77 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
         WHERE oi.onDemand = true
     """)
     List<OrderItemResponseDTO> findAllAsDTOByOnDemandTrue();
+
+    @Query("""
+        SELECT new com.chocolog.api.dto.response.OrderItemResponseDTO(
+            oi.id,
+            oi.order.id,
+            oi.size.id,
+            oi.size.name,
+            oi.flavor1.id,
+            oi.flavor1.name,
+            f2.id,
+            f2.name,
+            oi.quantity,
+            oi.unitPrice,
+            oi.totalPrice,
+            oi.onDemand,
+            oi.printed,
+            CAST(oi.status AS string),
+            oi.notes,
+            c.id,
+            c.name,
+            c.phone,
+            oi.order.expectedPickupDate
+        )
+        FROM OrderItem oi
+        LEFT JOIN oi.flavor2 f2
+        LEFT JOIN oi.order.customer c
+        WHERE oi.order.id IN :orderIds
+        ORDER BY oi.id
+    """)
+    List<OrderItemResponseDTO> findAllAsDTOByOrderIdIn(Collection<Long> orderIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE OrderItem oi
+        SET oi.printed = true, oi.updatedAt = CURRENT_TIMESTAMP
+        WHERE oi.id IN :orderItemIds
+        AND oi.printed = false
+    """)
+    int markPrinted(Collection<Long> orderItemIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE OrderItem oi
+        SET oi.status = :status, oi.updatedAt = CURRENT_TIMESTAMP
+        WHERE oi.id IN :orderItemIds
+    """)
+    int updateStatus(Collection<Long> orderItemIds, OrderStatus status);
+
+    @Query("""
+        SELECT new com.chocolog.api.repository.ProductionPlanRow(
+            CAST(o.expectedPickupDate AS LocalDate),
+            s.id,
+            s.name,
+            f1.id,
+            f1.name,
+            f2.id,
+            f2.name,
+            SUM(oi.quantity)
+        )
+        FROM OrderItem oi
+        JOIN oi.order o
+        JOIN oi.size s
+        JOIN oi.flavor1 f1
+        LEFT JOIN oi.flavor2 f2
+        WHERE o.expectedPickupDate BETWEEN :startDate AND :endDate
+        AND o.active = true
+        AND oi.active = true
+        AND oi.onDemand = true
+        AND oi.status = 'PENDING'
+        GROUP BY CAST(o.expectedPickupDate AS LocalDate), s.id, s.name, f1.id, f1.name, f2.id, f2.name
+        ORDER BY CAST(o.expectedPickupDate AS LocalDate), s.id, f1.id, f2.id
+    """)
+    List<ProductionPlanRow> sumPendingOnDemandQuantities(LocalDateTime startDate, LocalDateTime endDate);
 }
\ No newline at end of file
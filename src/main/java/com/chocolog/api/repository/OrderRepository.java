@@ -1,22 +1,89 @@
 package com.chocolog.api.repository;
 
 import com.chocolog.api.model.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderSearchRepository {
 
-    List<Order> findByCustomerId(Long customerId);
+    @EntityGraph("Order.details")
+    List<Order> findByIdIn(Collection<Long> ids);
 
+    @EntityGraph("Order.details")
+    List<Order> findDistinctByOrderItems_IdIn(Collection<Long> orderItemIds);
+
+    @EntityGraph("Order.details")
     Optional<Order> findByIdAndCustomerId(Long id, Long customerId);
 
-    List<Order> findByExpectedPickupDateBetweenOrderByExpectedPickupDate(
-            LocalDateTime startDate,
-            LocalDateTime endDate
-    );
+    @Query("""
+        SELECT new com.chocolog.api.repository.OrderSummaryRow(
+            o.id,
+            cu.id,
+            cu.name,
+            cu.phone,
+            cu.isReseller,
+            cu.notes,
+            e.id,
+            e.name,
+            e.login,
+            CAST(e.role AS string),
+            o.creationDate,
+            o.expectedPickupDate,
+            o.pickupDate,
+            CAST(o.status AS string),
+            o.notes,
+            c.id,
+            c.subtotalAmount,
+            c.discount,
+            c.totalAmount,
+            c.status
+        )
+        FROM Order o
+        LEFT JOIN o.customer cu
+        LEFT JOIN o.employee e
+        LEFT JOIN o.charges c
+        WHERE o.expectedPickupDate BETWEEN :startDate AND :endDate
+        ORDER BY o.expectedPickupDate, o.id
+    """)
+    List<OrderSummaryRow> findSummaryRowsByExpectedPickupDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("""
+        SELECT new com.chocolog.api.repository.OrderSummaryRow(
+            o.id,
+            cu.id,
+            cu.name,
+            cu.phone,
+            cu.isReseller,
+            cu.notes,
+            e.id,
+            e.name,
+            e.login,
+            CAST(e.role AS string),
+            o.creationDate,
+            o.expectedPickupDate,
+            o.pickupDate,
+            CAST(o.status AS string),
+            o.notes,
+            c.id,
+            c.subtotalAmount,
+            c.discount,
+            c.totalAmount,
+            c.status
+        )
+        FROM Order o
+        LEFT JOIN o.customer cu
+        LEFT JOIN o.employee e
+        LEFT JOIN o.charges c
+        WHERE o.customer.id = :customerId
+        ORDER BY o.id
+    """)
+    List<OrderSummaryRow> findSummaryRowsByCustomerId(Long customerId);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.model.ChargeStatus;
+import com.chocolog.api.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters and keyset position for {@link OrderSearchRepository#searchIds}. The range bounds are inclusive
+ * and {@code afterValue}/{@code afterId} identify the last row of the previous page.
+ */
+public record OrderSearchQuery(
+        OrderStatus status,
+        Long customerId,
+        Long employeeId,
+        ChargeStatus chargeStatus,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime pickupFrom,
+        LocalDateTime pickupTo,
+        Boolean onDemand,
+        boolean sortByPickupDate,
+        boolean ascending,
+        LocalDateTime afterValue,
+        Long afterId,
+        int limit
+) {
+}
@@ -0,0 +1,9 @@
+package com.chocolog.api.repository;
+
+import java.util.List;
+
+public interface OrderSearchRepository {
+
+    List<Long> searchIds(OrderSearchQuery query);
+
+}
@@ -0,0 +1,89 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.model.Charge;
+import com.chocolog.api.model.Order;
+import com.chocolog.api.model.OrderItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> searchIds(OrderSearchQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Order> order = cq.from(Order.class);
+
+        Path<LocalDateTime> sortPath = order.get(query.sortByPickupDate() ? "expectedPickupDate" : "creationDate");
+        Path<Long> idPath = order.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(order.get("active")));
+
+        if (query.status() != null) {
+            predicates.add(cb.equal(order.get("status"), query.status()));
+        }
+        if (query.customerId() != null) {
+            predicates.add(cb.equal(order.get("customer").get("id"), query.customerId()));
+        }
+        if (query.employeeId() != null) {
+            predicates.add(cb.equal(order.get("employee").get("id"), query.employeeId()));
+        }
+        if (query.chargeStatus() != null) {
+            Join<Order, Charge> charge = order.join("charges");
+            predicates.add(cb.equal(charge.get("status"), query.chargeStatus()));
+        }
+        if (query.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.<LocalDateTime>get("creationDate"), query.createdFrom()));
+        }
+        if (query.createdTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(order.<LocalDateTime>get("creationDate"), query.createdTo()));
+        }
+        if (query.pickupFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.<LocalDateTime>get("expectedPickupDate"), query.pickupFrom()));
+        }
+        if (query.pickupTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(order.<LocalDateTime>get("expectedPickupDate"), query.pickupTo()));
+        }
+        if (query.onDemand() != null) {
+            Subquery<Long> onDemandItems = cq.subquery(Long.class);
+            Root<OrderItem> item = onDemandItems.from(OrderItem.class);
+            onDemandItems.select(item.get("id")).where(
+                    cb.equal(item.get("order"), order),
+                    cb.isTrue(item.get("onDemand"))
+            );
+            predicates.add(query.onDemand() ? cb.exists(onDemandItems) : cb.not(cb.exists(onDemandItems)));
+        }
+        if (query.afterValue() != null && query.afterId() != null) {
+            predicates.add(query.ascending()
+                    ? cb.or(cb.greaterThan(sortPath, query.afterValue()),
+                            cb.and(cb.equal(sortPath, query.afterValue()), cb.greaterThan(idPath, query.afterId())))
+                    : cb.or(cb.lessThan(sortPath, query.afterValue()),
+                            cb.and(cb.equal(sortPath, query.afterValue()), cb.lessThan(idPath, query.afterId()))));
+        }
+
+        cq.select(idPath)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(query.ascending()
+                        ? List.of(cb.asc(sortPath), cb.asc(idPath))
+                        : List.of(cb.desc(sortPath), cb.desc(idPath)));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(query.limit())
+                .getResultList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.model.ChargeStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat order row with its customer, employee and charge columns, read without managed entities.
+ */
+public record OrderSummaryRow(
+        Long id,
+        Long customerId,
+        String customerName,
+        String customerPhone,
+        Boolean customerIsReseller,
+        String customerNotes,
+        Long employeeId,
+        String employeeName,
+        String employeeLogin,
+        String employeeRole,
+        LocalDateTime creationDate,
+        LocalDateTime expectedPickupDate,
+        LocalDateTime pickupDate,
+        String status,
+        String notes,
+        Long chargeId,
+        BigDecimal chargeSubtotalAmount,
+        BigDecimal chargeDiscount,
+        BigDecimal chargeTotalAmount,
+        ChargeStatus chargeStatus
+) {
+}
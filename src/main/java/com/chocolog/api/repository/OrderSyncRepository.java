@@ -0,0 +1,117 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.dto.response.sync.SyncChargeDTO;
+import com.chocolog.api.dto.response.sync.SyncOrderDTO;
+import com.chocolog.api.dto.response.sync.SyncOrderItemDTO;
+import com.chocolog.api.dto.response.sync.SyncPaymentDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads rows changed after a keyset position, straight from the tables so soft-deleted rows
+ * ({@code active = false}) are included, unlike the entity queries.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSyncRepository {
+
+    private static final String CHANGED_AFTER = """
+        WHERE updated_at <= ?
+        AND (updated_at > ? OR (updated_at = ? AND id > ?))
+        ORDER BY updated_at, id
+        LIMIT ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Current time on the database clock, the one every {@code updated_at} stamp is taken from.
+     */
+    public LocalDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+
+    public List<SyncOrderDTO> findOrdersChangedAfter(SyncPosition after, LocalDateTime until, int limit) {
+        return query("""
+            SELECT id, customer_id, employee_id, creation_date, expected_pickup_date, pickup_date,
+                   status, notes, active, updated_at
+            FROM orders
+        """, after, until, limit, (rs, rowNum) -> new SyncOrderDTO(
+                rs.getLong("id"),
+                rs.getObject("customer_id", Long.class),
+                rs.getObject("employee_id", Long.class),
+                rs.getObject("creation_date", LocalDateTime.class),
+                rs.getObject("expected_pickup_date", LocalDateTime.class),
+                rs.getObject("pickup_date", LocalDateTime.class),
+                rs.getString("status"),
+                rs.getString("notes"),
+                rs.getBoolean("active"),
+                rs.getObject("updated_at", LocalDateTime.class)
+        ));
+    }
+
+    public List<SyncOrderItemDTO> findOrderItemsChangedAfter(SyncPosition after, LocalDateTime until, int limit) {
+        return query("""
+            SELECT id, order_id, size_id, flavor1_id, flavor2_id, quantity, unit_price, total_price,
+                   on_demand, status, notes, active, updated_at
+            FROM order_items
+        """, after, until, limit, (rs, rowNum) -> new SyncOrderItemDTO(
+                rs.getLong("id"),
+                rs.getObject("order_id", Long.class),
+                rs.getObject("size_id", Long.class),
+                rs.getObject("flavor1_id", Long.class),
+                rs.getObject("flavor2_id", Long.class),
+                rs.getObject("quantity", Integer.class),
+                rs.getBigDecimal("unit_price"),
+                rs.getBigDecimal("total_price"),
+                rs.getObject("on_demand", Boolean.class),
+                rs.getString("status"),
+                rs.getString("notes"),
+                rs.getBoolean("active"),
+                rs.getObject("updated_at", LocalDateTime.class)
+        ));
+    }
+
+    public List<SyncChargeDTO> findChargesChangedAfter(SyncPosition after, LocalDateTime until, int limit) {
+        return query("""
+            SELECT id, order_id, subtotal_amount, discount, total_amount, paid_amount, status, active, updated_at
+            FROM charges
+        """, after, until, limit, (rs, rowNum) -> new SyncChargeDTO(
+                rs.getLong("id"),
+                rs.getObject("order_id", Long.class),
+                rs.getBigDecimal("subtotal_amount"),
+                rs.getBigDecimal("discount"),
+                rs.getBigDecimal("total_amount"),
+                rs.getBigDecimal("paid_amount"),
+                rs.getString("status"),
+                rs.getBoolean("active"),
+                rs.getObject("updated_at", LocalDateTime.class)
+        ));
+    }
+
+    public List<SyncPaymentDTO> findPaymentsChangedAfter(SyncPosition after, LocalDateTime until, int limit) {
+        return query("""
+            SELECT id, charge_id, employee_id, paid_amount, payment_date, payment_method, active, updated_at
+            FROM payments
+        """, after, until, limit, (rs, rowNum) -> new SyncPaymentDTO(
+                rs.getLong("id"),
+                rs.getObject("charge_id", Long.class),
+                rs.getObject("employee_id", Long.class),
+                rs.getBigDecimal("paid_amount"),
+                rs.getObject("payment_date", LocalDateTime.class),
+                rs.getString("payment_method"),
+                rs.getBoolean("active"),
+                rs.getObject("updated_at", LocalDateTime.class)
+        ));
+    }
+
+    private <T> List<T> query(String select, SyncPosition after, LocalDateTime until, int limit, RowMapper<T> rowMapper) {
+        return jdbcTemplate.query(select + CHANGED_AFTER, rowMapper,
+                until, after.updatedAt(), after.updatedAt(), after.id(), limit);
+    }
+}
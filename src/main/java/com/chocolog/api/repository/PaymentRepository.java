@@ -1,5 +1,6 @@
 package com.chocolog.api.repository;
 
+import com.chocolog.api.dto.response.PaymentResponseDTO;
 import com.chocolog.api.model.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,8 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,4 +24,20 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
         AND p.active = true
     """)
     BigDecimal sumPaidAmount(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("""
+        SELECT new com.chocolog.api.dto.response.PaymentResponseDTO(
+            p.id,
+            p.charge.id,
+            p.employee.id,
+            p.paidAmount,
+            p.paymentDate,
+            p.paymentMethod
+        )
+        FROM Payment p
+        WHERE p.charge.id IN :chargeIds
+        AND p.active = true
+        ORDER BY p.id
+    """)
+    List<PaymentResponseDTO> findAllAsDTOByChargeIdIn(Collection<Long> chargeIds);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.chocolog.api.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Set-based price change for {@link PriceAdjustmentRepository}: every selected price becomes
+ * {@code round(price * factor + delta, 2)}. Empty flavor or size ids select every flavor or size.
+ */
+public record PriceAdjustment(
+        Collection<Long> flavorIds,
+        Collection<Long> sizeIds,
+        BigDecimal factor,
+        BigDecimal delta,
+        boolean salePrice,
+        boolean costPrice
+) {
+}
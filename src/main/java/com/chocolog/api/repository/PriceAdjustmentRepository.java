@@ -0,0 +1,13 @@
+package com.chocolog.api.repository;
+
+public interface PriceAdjustmentRepository {
+
+    long countSelected(PriceAdjustment adjustment);
+
+    /**
+     * Applies the adjustment to the selected prices, skipping any row it would make negative. The caller compares
+     * the result with {@link #countSelected} in the same transaction and rolls back when rows were skipped.
+     */
+    int adjustPrices(PriceAdjustment adjustment);
+
+}
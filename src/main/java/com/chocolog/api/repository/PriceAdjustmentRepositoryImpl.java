@@ -0,0 +1,79 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.model.ProductPrice;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PriceAdjustmentRepositoryImpl implements PriceAdjustmentRepository {
+
+    private static final int PRICE_SCALE = 2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long countSelected(PriceAdjustment adjustment) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<ProductPrice> price = cq.from(ProductPrice.class);
+
+        cq.select(cb.count(price)).where(selection(cb, price, adjustment).toArray(Predicate[]::new));
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+
+    @Override
+    public int adjustPrices(PriceAdjustment adjustment) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<ProductPrice> update = cb.createCriteriaUpdate(ProductPrice.class);
+        Root<ProductPrice> price = update.from(ProductPrice.class);
+
+        List<Predicate> predicates = selection(cb, price, adjustment);
+        if (adjustment.salePrice()) {
+            Path<BigDecimal> salePrice = price.get("salePrice");
+            update.set(salePrice, adjusted(cb, salePrice, adjustment));
+            predicates.add(notNegative(cb, salePrice, adjustment));
+        }
+        if (adjustment.costPrice()) {
+            Path<BigDecimal> costPrice = price.get("costPrice");
+            update.set(costPrice, adjusted(cb, costPrice, adjustment));
+            predicates.add(notNegative(cb, costPrice, adjustment));
+        }
+        update.where(predicates.toArray(Predicate[]::new));
+
+        entityManager.flush();
+        int updatedRows = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updatedRows;
+    }
+
+    private Predicate notNegative(CriteriaBuilder cb, Path<BigDecimal> current, PriceAdjustment adjustment) {
+        return cb.or(cb.isNull(current), cb.greaterThanOrEqualTo(adjusted(cb, current, adjustment), BigDecimal.ZERO));
+    }
+
+    private Expression<BigDecimal> adjusted(CriteriaBuilder cb, Expression<BigDecimal> current, PriceAdjustment adjustment) {
+        return cb.round(cb.sum(cb.prod(current, adjustment.factor()), adjustment.delta()), PRICE_SCALE);
+    }
+
+    private List<Predicate> selection(CriteriaBuilder cb, Root<ProductPrice> price, PriceAdjustment adjustment) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(price.get("active")));
+        if (!adjustment.flavorIds().isEmpty()) {
+            predicates.add(price.get("flavor").get("id").in(adjustment.flavorIds()));
+        }
+        if (!adjustment.sizeIds().isEmpty()) {
+            predicates.add(price.get("size").get("id").in(adjustment.sizeIds()));
+        }
+        return predicates;
+    }
+}
@@ -4,10 +4,19 @@ import com.chocolog.api.model.Flavor;
 import com.chocolog.api.model.ProductPrice;
 import com.chocolog.api.model.Size;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
 import java.util.Optional;
 
-public interface ProductPriceRepository extends JpaRepository<ProductPrice, Long> {
+public interface ProductPriceRepository extends JpaRepository<ProductPrice, Long>, PriceAdjustmentRepository {
 
     Optional<ProductPrice> findByFlavorAndSize(Flavor flavor, Size size);
 
+    @Query("""
+        SELECT new com.chocolog.api.repository.SalePriceRow(pp.flavor.id, pp.size.id, pp.salePrice)
+        FROM ProductPrice pp
+        WHERE pp.salePrice IS NOT NULL
+    """)
+    List<SalePriceRow> findAllSalePrices();
+
 }
\ No newline at end of file
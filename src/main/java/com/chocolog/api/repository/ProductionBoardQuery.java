@@ -0,0 +1,24 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters and keyset position for {@link ProductionBoardRepository#findBoardItems}. Items are ordered by the
+ * expected pickup date of their order, orders without one last, and then by id; {@code afterPickupDate}/{@code afterId}
+ * identify the last item of the previous page, with a null {@code afterPickupDate} when that item had no pickup date.
+ */
+public record ProductionBoardQuery(
+        OrderStatus status,
+        LocalDateTime pickupFrom,
+        LocalDateTime pickupTo,
+        Boolean printed,
+        Boolean onDemand,
+        Long sizeId,
+        Long flavorId,
+        LocalDateTime afterPickupDate,
+        Long afterId,
+        int limit
+) {
+}
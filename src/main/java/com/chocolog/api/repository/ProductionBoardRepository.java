@@ -0,0 +1,11 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.dto.response.OrderItemResponseDTO;
+
+import java.util.List;
+
+public interface ProductionBoardRepository {
+
+    List<OrderItemResponseDTO> findBoardItems(ProductionBoardQuery query);
+
+}
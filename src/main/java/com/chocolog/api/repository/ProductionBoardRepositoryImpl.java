@@ -0,0 +1,109 @@
+package com.chocolog.api.repository;
+
+import com.chocolog.api.dto.response.OrderItemResponseDTO;
+import com.chocolog.api.model.Customer;
+import com.chocolog.api.model.Flavor;
+import com.chocolog.api.model.Order;
+import com.chocolog.api.model.OrderItem;
+import com.chocolog.api.model.Size;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductionBoardRepositoryImpl implements ProductionBoardRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OrderItemResponseDTO> findBoardItems(ProductionBoardQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderItemResponseDTO> cq = cb.createQuery(OrderItemResponseDTO.class);
+        Root<OrderItem> item = cq.from(OrderItem.class);
+        Join<OrderItem, Order> order = item.join("order");
+        Join<OrderItem, Size> size = item.join("size");
+        Join<OrderItem, Flavor> flavor1 = item.join("flavor1");
+        Join<OrderItem, Flavor> flavor2 = item.join("flavor2", JoinType.LEFT);
+        Join<Order, Customer> customer = order.join("customer", JoinType.LEFT);
+
+        Path<LocalDateTime> pickupPath = order.get("expectedPickupDate");
+        Path<Long> idPath = item.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(item.get("active")));
+        predicates.add(cb.isTrue(order.get("active")));
+
+        if (query.status() != null) {
+            predicates.add(cb.equal(item.get("status"), query.status()));
+        }
+        if (query.pickupFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(pickupPath, query.pickupFrom()));
+        }
+        if (query.pickupTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(pickupPath, query.pickupTo()));
+        }
+        if (query.printed() != null) {
+            predicates.add(cb.equal(item.get("printed"), query.printed()));
+        }
+        if (query.onDemand() != null) {
+            predicates.add(cb.equal(item.get("onDemand"), query.onDemand()));
+        }
+        if (query.sizeId() != null) {
+            predicates.add(cb.equal(size.get("id"), query.sizeId()));
+        }
+        if (query.flavorId() != null) {
+            predicates.add(cb.or(
+                    cb.equal(flavor1.get("id"), query.flavorId()),
+                    cb.equal(flavor2.get("id"), query.flavorId())));
+        }
+        if (query.afterId() != null && query.afterPickupDate() != null) {
+            predicates.add(cb.or(
+                    cb.isNull(pickupPath),
+                    cb.greaterThan(pickupPath, query.afterPickupDate()),
+                    cb.and(cb.equal(pickupPath, query.afterPickupDate()), cb.greaterThan(idPath, query.afterId()))));
+        } else if (query.afterId() != null) {
+            predicates.add(cb.and(cb.isNull(pickupPath), cb.greaterThan(idPath, query.afterId())));
+        }
+        Expression<Integer> pickupMissing = cb.<Integer>selectCase()
+                .when(cb.isNull(pickupPath), 1)
+                .otherwise(0);
+
+        cq.select(cb.construct(OrderItemResponseDTO.class,
+                        idPath,
+                        order.get("id"),
+                        size.get("id"),
+                        size.get("name"),
+                        flavor1.get("id"),
+                        flavor1.get("name"),
+                        flavor2.get("id"),
+                        flavor2.get("name"),
+                        item.get("quantity"),
+                        item.get("unitPrice"),
+                        item.get("totalPrice"),
+                        item.get("onDemand"),
+                        item.get("printed"),
+                        item.get("status").as(String.class),
+                        item.get("notes"),
+                        customer.get("id"),
+                        customer.get("name"),
+                        customer.get("phone"),
+                        pickupPath))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(pickupMissing), cb.asc(pickupPath), cb.asc(idPath));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(query.limit())
+                .getResultList();
+    }
+}
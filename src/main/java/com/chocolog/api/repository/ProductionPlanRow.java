@@ -0,0 +1,19 @@
+package com.chocolog.api.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Pending on-demand quantity for one pickup day, size and flavor pair; {@code flavor2Id} is null for single-flavor
+ * items.
+ */
+public record ProductionPlanRow(
+        LocalDate pickupDate,
+        Long sizeId,
+        String sizeName,
+        Long flavor1Id,
+        String flavor1Name,
+        Long flavor2Id,
+        String flavor2Name,
+        Long quantity
+) {
+}
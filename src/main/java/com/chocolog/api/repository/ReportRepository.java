@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -17,116 +18,95 @@ import java.util.stream.Collectors;
 public interface ReportRepository extends JpaRepository<Order, Long> {
 
     @Query("""
-        SELECT 
-            function('YEAR', o.creationDate),
-            function('WEEK', o.creationDate),
-            CAST(SUM(oi.quantity) as int)
-        FROM Order o
-        JOIN o.orderItems oi
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.status != 'CANCELLED'
-        AND o.active = true AND oi.active = true
-        GROUP BY function('YEAR', o.creationDate), function('WEEK', o.creationDate)
-        ORDER BY function('YEAR', o.creationDate), function('WEEK', o.creationDate)
+        SELECT
+            r.salesWeek,
+            SUM(r.quantity)
+        FROM DailySalesRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        GROUP BY r.salesWeek
+        ORDER BY r.salesWeek
     """)
-    List<Object[]> getRawSalesByWeek(LocalDateTime startDate, LocalDateTime endDate);
+    List<Object[]> getRawSalesByWeek(LocalDate startDate, LocalDate endDate);
 
     default List<SalesByPeriodDTO> getSalesByWeek(LocalDateTime startDate, LocalDateTime endDate) {
-        return getRawSalesByWeek(startDate, endDate).stream()
+        return getRawSalesByWeek(startDate.toLocalDate(), endDate.toLocalDate()).stream()
                 .map(arr -> {
-                    String period = arr[0] + "-W" + arr[1];
-                    Integer quantity = ((Number) arr[2]).intValue();
+                    String period = (String) arr[0];
+                    Integer quantity = ((Number) arr[1]).intValue();
                     return new SalesByPeriodDTO(period, quantity);
                 })
                 .toList();
     }
 
     @Query("""
-        SELECT 
-            function('YEAR', o.creationDate),
-            function('MONTH', o.creationDate),
-            function('DAY', o.creationDate),
-            CAST(SUM(oi.quantity) as int)
-        FROM Order o
-        JOIN o.orderItems oi
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.status != 'CANCELLED'
-        AND o.active = true AND oi.active = true
-        GROUP BY function('YEAR', o.creationDate), function('MONTH', o.creationDate), function('DAY', o.creationDate)
-        ORDER BY function('YEAR', o.creationDate), function('MONTH', o.creationDate), function('DAY', o.creationDate)
+        SELECT r.id.salesDate, SUM(r.quantity)
+        FROM DailySalesRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        GROUP BY r.id.salesDate
+        ORDER BY r.id.salesDate
     """)
-    List<Object[]> getRawSalesByDay(LocalDateTime startDate, LocalDateTime endDate);
+    List<Object[]> getRawSalesByDay(LocalDate startDate, LocalDate endDate);
 
     default List<SalesByPeriodDTO> getSalesByDay(LocalDateTime startDate, LocalDateTime endDate) {
-        return getRawSalesByDay(startDate, endDate).stream()
+        return getRawSalesByDay(startDate.toLocalDate(), endDate.toLocalDate()).stream()
                 .map(arr -> {
-                    String period = String.format("%d-%02d-%02d", arr[0], arr[1], arr[2]);
-                    Integer quantity = ((Number) arr[3]).intValue();
+                    String period = arr[0].toString();
+                    Integer quantity = ((Number) arr[1]).intValue();
                     return new SalesByPeriodDTO(period, quantity);
                 })
                 .toList();
     }
 
     @Query("""
-        SELECT 
-            function('YEAR', o.creationDate),
-            function('MONTH', o.creationDate),
-            CAST(SUM(oi.quantity) as int)
-        FROM Order o
-        JOIN o.orderItems oi
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.status != 'CANCELLED'
-        AND o.active = true AND oi.active = true
-        GROUP BY function('YEAR', o.creationDate), function('MONTH', o.creationDate)
-        ORDER BY function('YEAR', o.creationDate), function('MONTH', o.creationDate)
+        SELECT
+            r.salesMonth,
+            SUM(r.quantity)
+        FROM DailySalesRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        GROUP BY r.salesMonth
+        ORDER BY r.salesMonth
     """)
-    List<Object[]> getRawSalesByMonth(LocalDateTime startDate, LocalDateTime endDate);
+    List<Object[]> getRawSalesByMonth(LocalDate startDate, LocalDate endDate);
 
     default List<SalesByPeriodDTO> getSalesByMonth(LocalDateTime startDate, LocalDateTime endDate) {
-        return getRawSalesByMonth(startDate, endDate).stream()
+        return getRawSalesByMonth(startDate.toLocalDate(), endDate.toLocalDate()).stream()
                 .map(arr -> {
-                    String period = String.format("%d-%02d", arr[0], arr[1]);
-                    Integer quantity = ((Number) arr[2]).intValue();
+                    String period = (String) arr[0];
+                    Integer quantity = ((Number) arr[1]).intValue();
                     return new SalesByPeriodDTO(period, quantity);
                 })
                 .toList();
     }
 
-    @Query(value = """
-        SELECT 
-            o.status, 
-            COUNT(o.id) 
-        FROM orders o
-        WHERE o.creation_date BETWEEN :startDate AND :endDate
-        AND o.active = true
-        GROUP BY o.status
-    """, nativeQuery = true)
-        List<Object[]> getRawOrdersCountByStatus(LocalDateTime startDate, LocalDateTime endDate);
+    @Query("""
+        SELECT r.id.status, SUM(r.orderCount)
+        FROM DailyOrderRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        GROUP BY r.id.status
+    """)
+    List<Object[]> getRawOrdersCountByStatus(LocalDate startDate, LocalDate endDate);
 
     default List<OrdersByStatusDTO> getOrdersCountByStatus(LocalDateTime startDate, LocalDateTime endDate) {
-        return getRawOrdersCountByStatus(startDate, endDate).stream()
+        return getRawOrdersCountByStatus(startDate.toLocalDate(), endDate.toLocalDate()).stream()
                 .map(arr -> OrdersByStatusDTO.builder()
-                        .status(OrderStatus.valueOf((String) arr[0]))
+                        .status((OrderStatus) arr[0])
                         .count(((Number) arr[1]).longValue())
                         .build())
                 .toList();
     }
 
-    @Query(value = """
-        SELECT 
-            CASE WHEN oi.on_demand = TRUE THEN 'ON_DEMAND' ELSE 'STOCK' END, 
-            SUM(oi.quantity)
-        FROM order_items oi
-        JOIN orders o ON o.id = oi.order_id
-        WHERE o.creation_date BETWEEN :startDate AND :endDate
-        AND o.status != 'CANCELLED'
-        AND o.active = true AND oi.active = true
-        GROUP BY CASE WHEN oi.on_demand = TRUE THEN 'ON_DEMAND' ELSE 'STOCK' END
-    """, nativeQuery = true)
-    List<Object[]> getRawOnDemandVsStock(LocalDateTime startDate, LocalDateTime endDate);
+    @Query("""
+        SELECT
+            CASE WHEN r.id.onDemand = true THEN 'ON_DEMAND' ELSE 'STOCK' END,
+            SUM(r.quantity)
+        FROM DailySalesRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        GROUP BY CASE WHEN r.id.onDemand = true THEN 'ON_DEMAND' ELSE 'STOCK' END
+    """)
+    List<Object[]> getRawOnDemandVsStock(LocalDate startDate, LocalDate endDate);
 
     default List<OnDemandVsStockDTO> getOnDemandVsStock(LocalDateTime startDate, LocalDateTime endDate) {
-        return getRawOnDemandVsStock(startDate, endDate).stream()
+        return getRawOnDemandVsStock(startDate.toLocalDate(), endDate.toLocalDate()).stream()
                 .map(arr -> OnDemandVsStockDTO.builder()
                         .type((String) arr[0])
                         .quantity(((Number) arr[1]).intValue())
@@ -135,30 +115,24 @@ public interface ReportRepository extends JpaRepository<Order, Long> {
     }
 
     @Query("""
-        SELECT 
-            function('YEAR', o.creationDate),
-            function('WEEK', o.creationDate),
-            SUM(c.totalAmount),
-            SUM(p.paidAmount)
-        FROM Order o
-        JOIN o.charges c
-        LEFT JOIN c.payments p
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.active = true
-        AND c.active = true
-        AND o.status != 'CANCELLED'
-        AND (p.active = true OR p.id IS NULL)
-        GROUP BY function('YEAR', o.creationDate), function('WEEK', o.creationDate)
-        ORDER BY function('YEAR', o.creationDate), function('WEEK', o.creationDate)
+        SELECT
+            r.salesWeek,
+            SUM(r.chargedAmount),
+            SUM(r.receivedAmount)
+        FROM DailyOrderRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        AND r.id.status != 'CANCELLED'
+        GROUP BY r.salesWeek
+        ORDER BY r.salesWeek
     """)
-    List<Object[]> getRawRevenueVsReceivedByWeek(LocalDateTime startDate, LocalDateTime endDate);
+    List<Object[]> getRawRevenueVsReceivedByWeek(LocalDate startDate, LocalDate endDate);
 
     default List<RevenueVsReceivedDTO> getRevenueVsReceivedByWeek(LocalDateTime startDate, LocalDateTime endDate) {
-        return getRawRevenueVsReceivedByWeek(startDate, endDate).stream()
+        return getRawRevenueVsReceivedByWeek(startDate.toLocalDate(), endDate.toLocalDate()).stream()
                 .map(arr -> {
-                    String period = arr[0] + "-W" + arr[1];
-                    BigDecimal revenue = (BigDecimal) arr[2];
-                    BigDecimal received = (BigDecimal) arr[3];
+                    String period = (String) arr[0];
+                    BigDecimal revenue = (BigDecimal) arr[1];
+                    BigDecimal received = (BigDecimal) arr[2];
 
                     return new RevenueVsReceivedDTO(
                             period,
@@ -170,31 +144,24 @@ public interface ReportRepository extends JpaRepository<Order, Long> {
     }
 
     @Query("""
-        SELECT 
-            function('YEAR', o.creationDate),
-            function('MONTH', o.creationDate),
-            function('DAY', o.creationDate),
-            SUM(c.totalAmount),
-            SUM(p.paidAmount)
-        FROM Order o
-        JOIN o.charges c
-        LEFT JOIN c.payments p
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.active = true
-        AND c.active = true
-        AND o.status != 'CANCELLED'
-        AND (p.active = true OR p.id IS NULL)
-        GROUP BY function('YEAR', o.creationDate), function('MONTH', o.creationDate), function('DAY', o.creationDate)
-        ORDER BY function('YEAR', o.creationDate), function('MONTH', o.creationDate), function('DAY', o.creationDate)
+        SELECT
+            r.id.salesDate,
+            SUM(r.chargedAmount),
+            SUM(r.receivedAmount)
+        FROM DailyOrderRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        AND r.id.status != 'CANCELLED'
+        GROUP BY r.id.salesDate
+        ORDER BY r.id.salesDate
     """)
-    List<Object[]> getRawRevenueVsReceivedByDay(LocalDateTime startDate, LocalDateTime endDate);
+    List<Object[]> getRawRevenueVsReceivedByDay(LocalDate startDate, LocalDate endDate);
 
     default List<RevenueVsReceivedDTO> getRevenueVsReceivedByDay(LocalDateTime startDate, LocalDateTime endDate) {
-        return getRawRevenueVsReceivedByDay(startDate, endDate).stream()
+        return getRawRevenueVsReceivedByDay(startDate.toLocalDate(), endDate.toLocalDate()).stream()
                 .map(arr -> {
-                    String period = String.format("%d-%02d-%02d", arr[0], arr[1], arr[2]);
-                    BigDecimal revenue = (BigDecimal) arr[3];
-                    BigDecimal received = (BigDecimal) arr[4];
+                    String period = arr[0].toString();
+                    BigDecimal revenue = (BigDecimal) arr[1];
+                    BigDecimal received = (BigDecimal) arr[2];
 
                     return new RevenueVsReceivedDTO(
                             period,
@@ -206,30 +173,24 @@ public interface ReportRepository extends JpaRepository<Order, Long> {
     }
 
     @Query("""
-        SELECT 
-            function('YEAR', o.creationDate),
-            function('MONTH', o.creationDate),
-            SUM(c.totalAmount),
-            SUM(p.paidAmount)
-        FROM Order o
-        JOIN o.charges c
-        LEFT JOIN c.payments p
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.active = true
-        AND c.active = true
-        AND o.status != 'CANCELLED'
-        AND (p.active = true OR p.id IS NULL)
-        GROUP BY function('YEAR', o.creationDate), function('MONTH', o.creationDate)
-        ORDER BY function('YEAR', o.creationDate), function('MONTH', o.creationDate)
+        SELECT
+            r.salesMonth,
+            SUM(r.chargedAmount),
+            SUM(r.receivedAmount)
+        FROM DailyOrderRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        AND r.id.status != 'CANCELLED'
+        GROUP BY r.salesMonth
+        ORDER BY r.salesMonth
     """)
-    List<Object[]> getRawRevenueVsReceivedByMonth(LocalDateTime startDate, LocalDateTime endDate);
+    List<Object[]> getRawRevenueVsReceivedByMonth(LocalDate startDate, LocalDate endDate);
 
     default List<RevenueVsReceivedDTO> getRevenueVsReceivedByMonth(LocalDateTime startDate, LocalDateTime endDate) {
-        return getRawRevenueVsReceivedByMonth(startDate, endDate).stream()
+        return getRawRevenueVsReceivedByMonth(startDate.toLocalDate(), endDate.toLocalDate()).stream()
                 .map(arr -> {
-                    String period = String.format("%d-%02d", arr[0], arr[1]);
-                    BigDecimal revenue = (BigDecimal) arr[2];
-                    BigDecimal received = (BigDecimal) arr[3];
+                    String period = (String) arr[0];
+                    BigDecimal revenue = (BigDecimal) arr[1];
+                    BigDecimal received = (BigDecimal) arr[2];
 
                     return new RevenueVsReceivedDTO(
                             period,
@@ -257,37 +218,59 @@ public interface ReportRepository extends JpaRepository<Order, Long> {
     }
 
     @Query("""
-        SELECT 
-            SUM(oi.totalPrice - (oi.quantity * pp.costPrice))
-        FROM OrderItem oi
-        JOIN oi.order o
-        JOIN ProductPrice pp ON pp.flavor = oi.flavor1 AND pp.size = oi.size
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.status != 'CANCELLED'
+        SELECT SUM(r.profit)
+        FROM DailySalesRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+    """)
+    BigDecimal sumEstimatedProfit(LocalDate startDate, LocalDate endDate);
+
+    default BigDecimal calculateEstimatedProfit(LocalDateTime startDate, LocalDateTime endDate) {
+        return sumEstimatedProfit(startDate.toLocalDate(), endDate.toLocalDate());
+    }
+
+    @Query("""
+        SELECT SUM(r.quantity)
+        FROM DailySalesRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
     """)
-    BigDecimal calculateEstimatedProfit(LocalDateTime startDate, LocalDateTime endDate);
+    Long sumRawSoldQuantity(LocalDate startDate, LocalDate endDate);
+
+    default Integer sumSoldQuantity(LocalDateTime startDate, LocalDateTime endDate) {
+        Long quantity = sumRawSoldQuantity(startDate.toLocalDate(), endDate.toLocalDate());
+        return quantity != null ? quantity.intValue() : null;
+    }
+
+    @Query("""
+        SELECT SUM(r.chargedAmount)
+        FROM DailyOrderRollup r
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        AND r.id.status != 'CANCELLED'
+    """)
+    BigDecimal sumRawChargedAmount(LocalDate startDate, LocalDate endDate);
+
+    default BigDecimal sumChargedAmount(LocalDateTime startDate, LocalDateTime endDate) {
+        return sumRawChargedAmount(startDate.toLocalDate(), endDate.toLocalDate());
+    }
 
     @Query("""
-        SELECT oi.flavor1.name, oi.size.name, CAST(SUM(oi.quantity) AS int)
-        FROM OrderItem oi
-        JOIN oi.order o
-        WHERE o.creationDate BETWEEN :startDate AND :endDate
-        AND o.status != 'CANCELLED'
-        AND oi.active = true
-        AND o.active = true
-        AND oi.onDemand = :onDemand
-        GROUP BY oi.flavor1.name, oi.size.name
+        SELECT f.name, s.name, SUM(r.quantity)
+        FROM DailySalesRollup r
+        JOIN Flavor f ON f.id = r.id.flavorId
+        JOIN Size s ON s.id = r.id.sizeId
+        WHERE r.id.salesDate BETWEEN :startDate AND :endDate
+        AND r.id.onDemand = :onDemand
+        GROUP BY f.name, s.name
     """)
-    List<Object[]> getRawTotalByFlavorAndSize(LocalDateTime startDate, LocalDateTime endDate, boolean onDemand);
+    List<Object[]> getRawTotalByFlavorAndSize(LocalDate startDate, LocalDate endDate, boolean onDemand);
 
     default List<TotalByFlavorAndSizeDTO> getTotalByFlavorAndSize(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Object[]> rawData = getRawTotalByFlavorAndSize(startDate, endDate, false);
+        List<Object[]> rawData = getRawTotalByFlavorAndSize(startDate.toLocalDate(), endDate.toLocalDate(), false);
 
         Map<String, List<SizeSalesDTO>> groupedData = rawData.stream()
                 .collect(Collectors.groupingBy(
                         arr -> (String) arr[0],
                         Collectors.mapping(
-                                arr -> new SizeSalesDTO((String) arr[1], (Integer) arr[2]),
+                                arr -> new SizeSalesDTO((String) arr[1], ((Number) arr[2]).intValue()),
                                 Collectors.toList()
                         )
                 ));
@@ -0,0 +1,9 @@
+package com.chocolog.api.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Sale price of one flavor and size, read without managed entities.
+ */
+public record SalePriceRow(Long flavorId, Long sizeId, BigDecimal salePrice) {
+}
@@ -4,10 +4,77 @@ import com.chocolog.api.model.Flavor;
 import com.chocolog.api.model.Stock;
 import com.chocolog.api.model.Size;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StockRepository extends JpaRepository<Stock, Long> {
 
     Optional<Stock> findByFlavorAndSize(Flavor flavor, Size size);
 
-}
\ No newline at end of file
+    @Query("""
+        SELECT s.remainingQuantity
+        FROM Stock s
+        WHERE s.flavor.id = :flavorId
+        AND s.size.id = :sizeId
+        AND s.active = true
+    """)
+    Optional<Integer> findRemainingQuantity(Long flavorId, Long sizeId);
+
+    @Query("""
+        SELECT s.flavor.id, s.size.id, s.remainingQuantity
+        FROM Stock s
+        WHERE s.flavor.id IN :flavorIds
+        AND s.size.id IN :sizeIds
+        AND s.active = true
+    """)
+    List<Object[]> findRemainingQuantities(Collection<Long> flavorIds, Collection<Long> sizeIds);
+
+    @Query("""
+        SELECT
+            s.id,
+            s.flavor.id,
+            s.size.id,
+            s.remainingQuantity,
+            s.totalQuantity - (
+                SELECT COALESCE(SUM(oi.quantity), 0)
+                FROM OrderItem oi
+                WHERE oi.flavor1 = s.flavor
+                AND oi.size = s.size
+                AND oi.onDemand = false
+                AND oi.status = 'READY_FOR_PICKUP'
+                AND oi.active = true
+            )
+        FROM Stock s
+        WHERE s.active = true
+    """)
+    List<Object[]> findRemainingAndDerivedQuantities();
+
+    @Modifying
+    @Query("""
+        UPDATE Stock s
+        SET s.remainingQuantity = s.remainingQuantity + :quantityDelta
+        WHERE s.flavor.id = :flavorId
+        AND s.size.id = :sizeId
+        AND s.active = true
+    """)
+    int adjustRemaining(Long flavorId, Long sizeId, int quantityDelta);
+
+    @Modifying
+    @Query("UPDATE Stock s SET s.remainingQuantity = :remainingQuantity WHERE s.id = :id")
+    int setRemaining(Long id, int remainingQuantity);
+
+    @Modifying
+    @Query("""
+        UPDATE Stock s
+        SET s.totalQuantity = s.totalQuantity + :quantityDelta
+        WHERE s.flavor.id = :flavorId
+        AND s.size.id = :sizeId
+        AND s.active = true
+    """)
+    int adjustTotal(Long flavorId, Long sizeId, int quantityDelta);
+
+}
@@ -0,0 +1,12 @@
+package com.chocolog.api.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keyset position in a table's {@code (updated_at, id)} change order.
+ */
+public record SyncPosition(LocalDateTime updatedAt, Long id) {
+
+    public static final SyncPosition START = new SyncPosition(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+}
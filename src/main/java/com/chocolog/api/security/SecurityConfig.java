@@ -1,5 +1,6 @@
 package com.chocolog.api.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -31,6 +32,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthorizationFilter jwtAuthorizationFilter;
+    private final IdempotencyFilter idempotencyFilter;
 
     @Value("${chocolog.cors.allowed-origins}")
     private String allowedOrigins;
@@ -52,6 +54,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList(allowedOrigins.split(",")));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("Location", "ETag", IdempotencyFilter.REPLAYED_HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -67,6 +70,7 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers(
                     "/v3/api-docs/**",
@@ -78,6 +82,7 @@ public class SecurityConfig {
                 .requestMatchers("/auth/login").permitAll()
 
                 .requestMatchers(HttpMethod.POST, "/flavors").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.PATCH, "/flavors/prices").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PATCH, "/flavors/{id}").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/flavors/{id}").hasRole("ADMIN")
 
@@ -92,9 +97,9 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET,
                     "/customers", "/flavors", "/flavors/{id}",
                     "/employees/{id}",
-                    "/stock-records", "/orders", "/customers/{id}/orders",
+                    "/stock-records", "/orders", "/orders/search", "/orders/events", "/orders/sync", "/customers/{id}/orders",
                     "/customers/*/orders/*",
-                    "/orders/items", "/orders/print-batchs",
+                    "/orders/items", "/orders/items/board", "/orders/items/planning", "/orders/print-batchs",
                     "/orders/print-batchs/{id}",
                     "/orders/print-batchs/{id}/download")
                 .hasAnyRole("ADMIN", "STAFF")
@@ -104,11 +109,14 @@ public class SecurityConfig {
                     "/customers/*/orders/*",
                     "/customers/*/orders/*/items",
                     "/customers/*/orders/*/payments",
-                    "/orders/print-batchs")
+                    "/orders/print-batchs",
+                    "/orders/import",
+                    "/orders/quote")
                 .hasAnyRole("ADMIN", "STAFF")
 
                 .requestMatchers(HttpMethod.PATCH,
                     "/customers",
+                    "/orders/items/status",
                     "/customers/*/orders/*",
                     "/customers/*/orders/*/items/*",
                     "/customers/*/orders/*/payments/*")
@@ -122,7 +130,8 @@ public class SecurityConfig {
 
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthorizationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthorizationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(idempotencyFilter, JwtAuthorizationFilter.class);
 
         return http.build();
     }
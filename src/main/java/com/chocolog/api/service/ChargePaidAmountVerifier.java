@@ -0,0 +1,46 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.repository.ChargeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Checks the running {@code paidAmount} of every charge against the sum of its active payments and repairs the
+ * charges that drifted, re-deriving their status from the repaired amount. Runs once at startup, which also
+ * backfills charges created before the column existed, and then nightly.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChargePaidAmountVerifier {
+
+    private final ChargeRepository chargeRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        verify();
+    }
+
+    @Scheduled(cron = "${chocolog.charges.paid-amount-verify-cron:0 30 2 * * *}")
+    @Transactional
+    public void verify() {
+        List<Long> chargeIds = chargeRepository.findIdsWithPaidAmountMismatch();
+        if (chargeIds.isEmpty()) {
+            log.debug("Charge paid amounts match their payments.");
+            return;
+        }
+
+        int repaired = chargeRepository.recalculatePaidAmount(chargeIds);
+        chargeRepository.findAllById(chargeIds).forEach(charge -> charge.setStatus(
+                OrderAggregateRecalculator.resolveChargeStatus(charge.getPaidAmount(), charge.getTotalAmount())));
+        log.warn("Recalculated paid amount of {} charges that did not match their payments: {}", repaired, chargeIds);
+    }
+}
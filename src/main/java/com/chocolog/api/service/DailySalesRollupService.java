@@ -0,0 +1,283 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.model.PeriodType;
+import com.chocolog.api.repository.DailySalesRollupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps {@code daily_sales_rollup} and {@code daily_order_rollup} in step with orders, items and payments. Changed
+ * orders are collected during the transaction and, once it commits, queued for a single background refresher that
+ * re-aggregates every creation day they touch from the committed rows in its own short transaction. Nothing is
+ * locked while the business transaction is open, so order writes never wait on each other here, and a burst of
+ * changes to the same day is folded into one rewrite. The refresher and the rebuild take turns on one monitor so
+ * a day is never rewritten twice at once. A nightly rebuild, also run on startup while the rollups are empty or
+ * outdated, backfills history and repairs drift. Cached dashboard reports covering a rewritten day are evicted
+ * once the rewrite commits. Cost price changes recompute the cost and profit of every rollup row the same way and
+ * evict every cached report.
+ */
+@Slf4j
+@Service
+public class DailySalesRollupService {
+
+    private static final int REBUILD_CHUNK_DAYS = 31;
+
+    private final DailySalesRollupRepository rollupRepository;
+    private final ReportCache reportCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor refreshExecutor;
+    private final Set<Long> dirtyOrderIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final AtomicBoolean costRefreshScheduled = new AtomicBoolean();
+    private final Object rewriteMonitor = new Object();
+
+    @Autowired
+    public DailySalesRollupService(DailySalesRollupRepository rollupRepository, ReportCache reportCache,
+                                   PlatformTransactionManager transactionManager) {
+        this(rollupRepository, reportCache, transactionManager, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sales-rollup-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    DailySalesRollupService(DailySalesRollupRepository rollupRepository, ReportCache reportCache,
+                            PlatformTransactionManager transactionManager, Executor refreshExecutor) {
+        this.rollupRepository = rollupRepository;
+        this.reportCache = reportCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @EventListener
+    public void onOrderChange(OrderChangeEvent event) {
+        if (event.orderId() != null) {
+            markOrderChanged(event.orderId());
+        }
+    }
+
+    /**
+     * Queues the rollup days of the order for a refresh once the current transaction commits, or right away
+     * outside a transaction. Changes of a rolled back transaction are dropped.
+     */
+    public void markOrderChanged(Long orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            queueRefresh(List.of(orderId));
+            return;
+        }
+
+        PendingOrders pending = (PendingOrders) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingOrders();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.orderIds.add(orderId);
+    }
+
+    /**
+     * Queues a recomputation of rollup costs and profits from the current cost prices once the current transaction
+     * commits, or right away outside a transaction.
+     */
+    public void markCostsChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            queueCostRefresh();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    queueCostRefresh();
+                }
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (rollupRepository.countOrderRollups() == 0
+                || rollupRepository.countOrderRollupsWithoutPeriodBuckets() > 0
+                || rollupRepository.countSalesRollupsWithoutProfit() > 0) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${chocolog.reports.rollup-rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        fillMissingPeriodBuckets();
+
+        Optional<LocalDate> firstCreationDate = rollupRepository.findFirstCreationDate();
+        if (firstCreationDate.isEmpty()) {
+            return;
+        }
+
+        LocalDate endDate = LocalDate.now().plusDays(1);
+        int rebuiltDays = 0;
+        for (LocalDate chunkStart = firstCreationDate.get(); chunkStart.isBefore(endDate);
+             chunkStart = chunkStart.plusDays(REBUILD_CHUNK_DAYS)) {
+            LocalDate chunkEnd = chunkStart.plusDays(REBUILD_CHUNK_DAYS).isBefore(endDate)
+                    ? chunkStart.plusDays(REBUILD_CHUNK_DAYS)
+                    : endDate;
+            LocalDate rangeStart = chunkStart;
+
+            synchronized (rewriteMonitor) {
+                transactionTemplate.executeWithoutResult(status -> refreshRange(rangeStart, chunkEnd));
+            }
+            rebuiltDays += (int) rangeStart.datesUntil(chunkEnd).count();
+        }
+        reportCache.evictAll();
+        log.info("Rebuilt sales rollups for {} days.", rebuiltDays);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Rewrites the days of every order queued so far. Runs on the refresher thread; orders queued while it runs
+     * schedule another pass.
+     */
+    void refreshDirtyOrders() {
+        refreshScheduled.set(false);
+        List<Long> orderIds = new ArrayList<>(dirtyOrderIds);
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        dirtyOrderIds.removeAll(orderIds);
+
+        List<LocalDate> days;
+        try {
+            synchronized (rewriteMonitor) {
+                days = transactionTemplate.execute(status -> {
+                    List<LocalDate> changedDays = rollupRepository.findCreationDates(orderIds);
+                    changedDays.forEach(this::refreshDay);
+                    return changedDays;
+                });
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh sales rollups for orders {}; the nightly rebuild will repair them.", orderIds, e);
+            return;
+        }
+        reportCache.evictDays(days);
+    }
+
+    /**
+     * Rewrites cost and profit of every rollup row. Runs on the refresher thread; cost changes committed while it
+     * runs schedule another pass.
+     */
+    void refreshCosts() {
+        costRefreshScheduled.set(false);
+        try {
+            synchronized (rewriteMonitor) {
+                transactionTemplate.executeWithoutResult(status -> rollupRepository.refreshCosts());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh sales rollup costs; the nightly rebuild will repair them.", e);
+            return;
+        }
+        reportCache.evictAll();
+    }
+
+    /**
+     * Waits until every refresh queued before the call has run.
+     */
+    void awaitQueuedRefreshes() {
+        CompletableFuture.runAsync(() -> { }, refreshExecutor).join();
+    }
+
+    private void queueRefresh(Collection<Long> orderIds) {
+        dirtyOrderIds.addAll(orderIds);
+        if (refreshScheduled.compareAndSet(false, true)) {
+            try {
+                refreshExecutor.execute(this::refreshDirtyOrders);
+            } catch (RejectedExecutionException e) {
+                refreshScheduled.set(false);
+                log.warn("Sales rollup refresh rejected; the nightly rebuild will pick up orders {}.", orderIds);
+            }
+        }
+    }
+
+    private void queueCostRefresh() {
+        if (costRefreshScheduled.compareAndSet(false, true)) {
+            try {
+                refreshExecutor.execute(this::refreshCosts);
+            } catch (RejectedExecutionException e) {
+                costRefreshScheduled.set(false);
+                log.warn("Sales rollup cost refresh rejected; the nightly rebuild will pick up the new cost prices.");
+            }
+        }
+    }
+
+    /**
+     * Fills the period bucket columns of orders written before they existed, one creation day per transaction so
+     * a long history never holds row locks on every order at once. The buckets are computed here rather than in
+     * SQL so week numbering is the same ISO week on every database.
+     */
+    private void fillMissingPeriodBuckets() {
+        List<LocalDate> days = rollupRepository.findCreationDatesWithoutPeriodBuckets();
+        if (days.isEmpty()) {
+            return;
+        }
+
+        int filledOrders = 0;
+        for (LocalDate day : days) {
+            filledOrders += transactionTemplate.execute(status -> rollupRepository.fillPeriodBuckets(day,
+                    PeriodType.WEEK.bucketOf(day), PeriodType.MONTH.bucketOf(day),
+                    day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+        }
+        log.info("Filled period buckets for {} orders over {} days.", filledOrders, days.size());
+    }
+
+    private void refreshDay(LocalDate day) {
+        refreshRange(day, day.plusDays(1));
+    }
+
+    private void refreshRange(LocalDate startDate, LocalDate endDate) {
+        rollupRepository.deleteSalesBetween(startDate, endDate);
+        rollupRepository.insertSalesBetween(startDate, endDate);
+        rollupRepository.deleteOrdersBetween(startDate, endDate);
+        rollupRepository.insertOrdersBetween(startDate, endDate);
+    }
+
+    private class PendingOrders implements TransactionSynchronization {
+
+        private final Set<Long> orderIds = new LinkedHashSet<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DailySalesRollupService.this);
+            if (status == STATUS_COMMITTED) {
+                queueRefresh(orderIds);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.FlavorResponseDTO;
+import com.chocolog.api.dto.response.FlavorSizeResponseDTO;
+import com.chocolog.api.repository.CatalogRow;
+import com.chocolog.api.repository.FlavorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Read model behind {@code GET /flavors}: every active flavor with the price and stock of every active size, loaded
+ * by a single join and kept as an immutable snapshot. The snapshot carries an ETag derived from its content, so
+ * clients can revalidate without downloading the catalog again. Flavor, price and stock changes drop the snapshot
+ * after their transaction commits; a TTL bounds how long a node can serve changes made on another node.
+ */
+@Slf4j
+@Component
+public class FlavorCatalog {
+
+    private final FlavorRepository flavorRepository;
+    private final StockReservationLedger stockReservationLedger;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${chocolog.catalog.snapshot-ttl-ms:60000}")
+    private long ttlMillis;
+
+    public FlavorCatalog(FlavorRepository flavorRepository, StockReservationLedger stockReservationLedger) {
+        this.flavorRepository = flavorRepository;
+        this.stockReservationLedger = stockReservationLedger;
+    }
+
+    public Snapshot current() {
+        Snapshot current = snapshot.get();
+        return isUsable(current) ? current : rebuild();
+    }
+
+    /**
+     * Drops the snapshot once the current transaction commits, or right away outside a transaction.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict();
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChange(OrderChangeEvent event) {
+        if (event.type() == OrderChangeEvent.Type.STOCK_CHANGED) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private synchronized Snapshot rebuild() {
+        Snapshot current = snapshot.get();
+        if (isUsable(current)) {
+            return current;
+        }
+
+        long buildGeneration = generation.get();
+        Snapshot built = Snapshot.of(flavorRepository.findCatalogRows().stream()
+                .map(this::withReservedStock)
+                .toList(), buildGeneration);
+        if (buildGeneration == generation.get()) {
+            snapshot.set(built);
+        }
+        log.debug("Flavor catalog rebuilt with {} flavors, etag {}.", built.flavors().size(), built.etag());
+        return built;
+    }
+
+    private CatalogRow withReservedStock(CatalogRow row) {
+        if (row.remainingQuantity() == null) {
+            return row;
+        }
+        return stockReservationLedger.findAvailable(row.flavorId(), row.sizeId())
+                .map(available -> new CatalogRow(row.flavorId(), row.flavorName(), row.sizeId(), row.sizeName(),
+                        row.salePrice(), row.costPrice(), row.totalQuantity(), available))
+                .orElse(row);
+    }
+
+    private boolean isUsable(Snapshot current) {
+        return current != null
+                && current.generation() == generation.get()
+                && System.currentTimeMillis() - current.builtAt() <= ttlMillis;
+    }
+
+    public record Snapshot(List<FlavorResponseDTO> flavors, Map<Long, FlavorResponseDTO> flavorsById,
+                           String etag, long generation, long builtAt) {
+
+        public Optional<FlavorResponseDTO> findFlavor(Long id) {
+            return Optional.ofNullable(flavorsById.get(id));
+        }
+
+        static Snapshot of(List<CatalogRow> rows, long generation) {
+            Map<Long, FlavorResponseDTO> flavorsById = new LinkedHashMap<>();
+            for (CatalogRow row : rows) {
+                FlavorResponseDTO flavor = flavorsById.computeIfAbsent(row.flavorId(),
+                        id -> new FlavorResponseDTO(id, row.flavorName(), new ArrayList<>()));
+                List<FlavorSizeResponseDTO> sizes = flavor.getSizes();
+                if (!sizes.isEmpty() && sizes.get(sizes.size() - 1).getSizeId().equals(row.sizeId())) {
+                    continue;
+                }
+                sizes.add(new FlavorSizeResponseDTO(
+                        row.sizeId(),
+                        row.sizeName(),
+                        row.salePrice() != null ? row.salePrice() : BigDecimal.ZERO,
+                        row.costPrice() != null ? row.costPrice() : BigDecimal.ZERO,
+                        row.totalQuantity() != null ? row.totalQuantity() : 0,
+                        row.remainingQuantity() != null ? row.remainingQuantity() : 0
+                ));
+            }
+            return new Snapshot(List.copyOf(flavorsById.values()), Map.copyOf(flavorsById),
+                    etagOf(rows), generation, System.currentTimeMillis());
+        }
+
+        private static String etagOf(List<CatalogRow> rows) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (CatalogRow row : rows) {
+                    digest.update((row + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+                return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available.", e);
+            }
+        }
+    }
+}
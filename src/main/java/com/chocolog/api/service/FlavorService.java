@@ -1,26 +1,32 @@
 package com.chocolog.api.service;
 
+import com.chocolog.api.audit.AuditHelper;
 import com.chocolog.api.dto.request.FlavorRequestDTO;
 import com.chocolog.api.dto.request.FlavorPatchRequestDTO;
+import com.chocolog.api.dto.request.PriceAdjustmentRequestDTO;
 import com.chocolog.api.dto.request.PriceRequestDTO;
 import com.chocolog.api.dto.response.FlavorResponseDTO;
 import com.chocolog.api.dto.response.FlavorSizeResponseDTO;
+import com.chocolog.api.dto.response.PriceAdjustmentResponseDTO;
 import com.chocolog.api.mapper.FlavorMapper;
 import com.chocolog.api.model.Flavor;
 import com.chocolog.api.model.ProductPrice;
 import com.chocolog.api.model.Size;
 import com.chocolog.api.model.Stock;
 import com.chocolog.api.repository.FlavorRepository;
+import com.chocolog.api.repository.PriceAdjustment;
 import com.chocolog.api.repository.ProductPriceRepository;
 import com.chocolog.api.repository.SizeRepository;
 import com.chocolog.api.repository.StockRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
@@ -31,17 +37,24 @@ public class FlavorService {
     private final StockRepository stockRepository;
     private final FlavorRepository flavorRepository;
     private final FlavorMapper flavorMapper;
+    private final PriceMatrix priceMatrix;
+    private final FlavorCatalog flavorCatalog;
+    private final AuditHelper auditHelper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailySalesRollupService dailySalesRollupService;
+
+    public FlavorCatalog.Snapshot findCatalog() {
+        return flavorCatalog.current();
+    }
 
     public List<FlavorResponseDTO> findAll() {
-        return flavorRepository.findAll().stream()
-                .map(this::buildFlavorResponseDTO)
-                .toList();
+        return flavorCatalog.current().flavors();
     }
 
     public FlavorResponseDTO findById(Long id) {
-        Flavor flavor = flavorRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Flavor not found for id: " + id));
-        return buildFlavorResponseDTO(flavor);
+        return flavorCatalog.current().findFlavor(id)
+                .orElseGet(() -> buildFlavorResponseDTO(flavorRepository.findById(id)
+                        .orElseThrow(() -> new EntityNotFoundException("Flavor not found for id: " + id))));
     }
 
     @Transactional
@@ -73,10 +86,13 @@ public class FlavorService {
                         .remainingQuantity(0)
                         .build();
                 stockRepository.save(stock);
+                eventPublisher.publishEvent(OrderChangeEvent.ofStock(savedFlavor.getId(), size.getId()));
             }
+            priceMatrix.invalidate();
         }
+        flavorCatalog.invalidate();
 
-        return findById(savedFlavor.getId());
+        return buildFlavorResponseDTO(savedFlavor);
     }
 
     @Transactional
@@ -98,11 +114,13 @@ public class FlavorService {
 
                 ProductPrice productPrice = productPriceRepository.findByFlavorAndSize(existingFlavor, size)
                         .orElseGet(() -> {
-                            stockRepository.findByFlavorAndSize(existingFlavor, size)
-                                    .orElseGet(() -> stockRepository.save(Stock.builder()
-                                            .flavor(existingFlavor).size(size)
-                                            .totalQuantity(0).remainingQuantity(0).build()));
-                            
+                            if (stockRepository.findByFlavorAndSize(existingFlavor, size).isEmpty()) {
+                                stockRepository.save(Stock.builder()
+                                        .flavor(existingFlavor).size(size)
+                                        .totalQuantity(0).remainingQuantity(0).build());
+                                eventPublisher.publishEvent(OrderChangeEvent.ofStock(existingFlavor.getId(), size.getId()));
+                            }
+
                             return ProductPrice.builder().flavor(existingFlavor).size(size).build();
                         });
 
@@ -114,15 +132,60 @@ public class FlavorService {
                 }
                 productPriceRepository.save(productPrice);
             }
+            if (flavorDTO.getPrices().stream().anyMatch(priceDTO -> priceDTO.getCostPrice() != null)) {
+                dailySalesRollupService.markCostsChanged();
+            }
+            priceMatrix.invalidate();
+        }
+        flavorCatalog.invalidate();
+
+        return buildFlavorResponseDTO(existingFlavor);
+    }
+
+    @Transactional
+    public PriceAdjustmentResponseDTO adjustPrices(PriceAdjustmentRequestDTO adjustmentDTO) {
+        if (!adjustmentDTO.isSalePrice() && !adjustmentDTO.isCostPrice()) {
+            throw new IllegalArgumentException("At least one of sale price or cost price must be adjusted.");
+        }
+
+        boolean percentage = "PERCENTAGE".equals(adjustmentDTO.getType());
+        BigDecimal value = adjustmentDTO.getValue();
+        PriceAdjustment adjustment = new PriceAdjustment(
+                adjustmentDTO.getFlavorIds() != null ? adjustmentDTO.getFlavorIds() : List.of(),
+                adjustmentDTO.getSizeIds() != null ? adjustmentDTO.getSizeIds() : List.of(),
+                percentage ? BigDecimal.ONE.add(value.movePointLeft(2)) : BigDecimal.ONE,
+                percentage ? BigDecimal.ZERO : value,
+                adjustmentDTO.isSalePrice(),
+                adjustmentDTO.isCostPrice());
+
+        int updatedPrices = productPriceRepository.adjustPrices(adjustment);
+        if (updatedPrices != productPriceRepository.countSelected(adjustment)) {
+            throw new IllegalArgumentException("The adjustment would make some prices negative.");
+        }
+        if (updatedPrices > 0) {
+            auditHelper.saveBulkAudit(ProductPrice.class.getSimpleName(), "UPDATE", Map.of(
+                    "flavorIds", adjustment.flavorIds(),
+                    "sizeIds", adjustment.sizeIds(),
+                    "type", adjustmentDTO.getType(),
+                    "value", value,
+                    "salePrice", adjustment.salePrice(),
+                    "costPrice", adjustment.costPrice(),
+                    "updatedPrices", updatedPrices));
+            if (adjustment.costPrice()) {
+                dailySalesRollupService.markCostsChanged();
+            }
+            priceMatrix.invalidate();
+            flavorCatalog.invalidate();
         }
 
-        return findById(existingFlavor.getId());
+        return new PriceAdjustmentResponseDTO(updatedPrices);
     }
 
     public void deleteById(Long id) {
         Flavor flavor = flavorRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Flavor not found for id: " + id));
         flavorRepository.delete(flavor);
+        flavorCatalog.invalidate();
     }
 
     private FlavorResponseDTO buildFlavorResponseDTO(Flavor flavor) {
@@ -0,0 +1,102 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.model.IdempotencyRecord;
+import com.chocolog.api.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stores the responses of requests sent with an {@code Idempotency-Key}. Completed responses are kept in a bounded
+ * in-memory LRU in front of the {@code idempotency_keys} table, which is shared by every node: inserting the key
+ * before the request runs is what makes a concurrent retry on another node see it as in progress. A key whose
+ * request never completed or released it, because its node died mid-request, is held only for the pending lease
+ * and can then be claimed by a retry.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Map<String, IdempotencyRecord> completed;
+    private final int pendingLeaseSeconds;
+
+    @Value("${chocolog.idempotency.retention-hours:24}")
+    private int retentionHours;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            @Value("${chocolog.idempotency.cache-size:1000}") int cacheSize,
+                            @Value("${chocolog.idempotency.pending-lease-seconds:300}") int pendingLeaseSeconds) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.pendingLeaseSeconds = pendingLeaseSeconds;
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public Optional<IdempotencyRecord> findCached(String id) {
+        return Optional.ofNullable(completed.get(id));
+    }
+
+    public Optional<IdempotencyRecord> find(String id) {
+        Optional<IdempotencyRecord> cached = findCached(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findById(id);
+        stored.filter(IdempotencyRecord::isCompleted).ifPresent(record -> completed.put(id, record));
+        return stored;
+    }
+
+    /**
+     * Claims the key for a new request. Returns {@code false} when another request already holds it, either
+     * completed or still pending within its lease.
+     */
+    public boolean begin(String id, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            idempotencyRecordRepository.insertPending(id, requestHash, now);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return idempotencyRecordRepository.claimStalePending(id, requestHash, now,
+                    now.minusSeconds(pendingLeaseSeconds)) > 0;
+        }
+    }
+
+    public void complete(IdempotencyRecord record) {
+        idempotencyRecordRepository.complete(record.getId(), record.getResponseStatus(), record.getContentType(),
+                record.getLocation(), record.getResponseBody());
+        completed.put(record.getId(), record);
+    }
+
+    /**
+     * Releases a key whose request failed, so the client can retry it.
+     */
+    public void release(String id) {
+        idempotencyRecordRepository.deleteById(id);
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void purgeExpired() {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusHours(retentionHours);
+        long deletedRows = idempotencyRecordRepository.deleteByCreatedAtBefore(cutoffDate);
+        synchronized (completed) {
+            completed.values().removeIf(record -> record.getCreatedAt().isBefore(cutoffDate));
+        }
+        if (deletedRows > 0) {
+            log.info("Idempotency purge task finished. {} keys older than {} were deleted.", deletedRows, cutoffDate);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.model.Flavor;
+import com.chocolog.api.model.Size;
+
+/**
+ * Decides whether an order item has to be made to order instead of being taken from stock: half-and-half items,
+ * 1Kg eggs and items with notes are made on demand.
+ */
+final class OnDemandRule {
+
+    private OnDemandRule() {
+    }
+
+    static boolean isOnDemand(Size size, Flavor flavor2, String notes) {
+        return flavor2 != null
+                || "1Kg".equalsIgnoreCase(size.getName())
+                || (notes != null && !notes.isBlank());
+    }
+}
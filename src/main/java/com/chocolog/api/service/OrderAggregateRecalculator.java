@@ -0,0 +1,90 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.model.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Recalculates an order that is already loaded in the current persistence context: subtotal and total from its
+ * items, charge status from the charge's running paid amount, and the order status from its item statuses, in a
+ * single pass. Only fields whose value actually changes are set, so the flush issues an UPDATE for the charge and
+ * for the order only when they differ from what was loaded.
+ */
+@Slf4j
+@Component
+public class OrderAggregateRecalculator {
+
+    public OrderRecalculation recalculate(Order order) {
+        Charge charge = order.getCharges();
+        if (charge == null) {
+            throw new IllegalStateException("Order does not have an associated charge to update.");
+        }
+
+        BigDecimal subtotalAmount = BigDecimal.ZERO;
+        boolean allCompleted = true;
+        boolean anyPending = false;
+        for (OrderItem item : order.getOrderItems()) {
+            subtotalAmount = subtotalAmount.add(item.getTotalPrice());
+            allCompleted &= item.getStatus() == OrderStatus.COMPLETED;
+            anyPending |= item.getStatus() == OrderStatus.PENDING;
+        }
+
+        BigDecimal totalAmount = subtotalAmount.subtract(charge.getDiscount());
+        ChargeStatus chargeStatus = resolveChargeStatus(charge.getPaidAmount(), totalAmount);
+
+        boolean chargeChanged = false;
+        if (!sameAmount(charge.getSubtotalAmount(), subtotalAmount)) {
+            charge.setSubtotalAmount(subtotalAmount);
+            chargeChanged = true;
+        }
+        if (!sameAmount(charge.getTotalAmount(), totalAmount)) {
+            charge.setTotalAmount(totalAmount);
+            chargeChanged = true;
+        }
+        if (charge.getStatus() != chargeStatus) {
+            charge.setStatus(chargeStatus);
+            chargeChanged = true;
+        }
+
+        boolean orderChanged = false;
+        if (order.getStatus() != OrderStatus.COMPLETED && order.getStatus() != OrderStatus.CANCELLED) {
+            OrderStatus orderStatus = allCompleted ? OrderStatus.COMPLETED
+                    : anyPending ? OrderStatus.PENDING
+                    : OrderStatus.READY_FOR_PICKUP;
+            if (order.getStatus() != orderStatus) {
+                order.setStatus(orderStatus);
+                orderChanged = true;
+            }
+        }
+
+        OrderRecalculation result = new OrderRecalculation(chargeChanged, orderChanged);
+        log.debug("Recalculated order {}: {} update statement(s).", order.getId(), result.statements());
+        return result;
+    }
+
+    static ChargeStatus resolveChargeStatus(BigDecimal totalPaid, BigDecimal totalAmount) {
+        if (totalPaid.compareTo(totalAmount) >= 0) {
+            return ChargeStatus.PAID;
+        } else if (totalPaid.compareTo(BigDecimal.ZERO) > 0) {
+            return ChargeStatus.PARTIAL;
+        }
+        return ChargeStatus.UNPAID;
+    }
+
+    private boolean sameAmount(BigDecimal current, BigDecimal recalculated) {
+        return current != null && current.compareTo(recalculated) == 0;
+    }
+
+    /**
+     * Outcome of a recalculation: which rows were changed and therefore how many UPDATE statements the next
+     * flush issues for them.
+     */
+    public record OrderRecalculation(boolean chargeChanged, boolean orderChanged) {
+
+        public int statements() {
+            return (chargeChanged ? 1 : 0) + (orderChanged ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.model.Flavor;
+import com.chocolog.api.model.Size;
+import jakarta.persistence.EntityNotFoundException;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Sizes and flavors referenced by a set of order items, loaded up front by {@link OrderCatalogResolver}. Unit prices
+ * come from the {@link PriceMatrix} snapshot through {@link ProductPriceService}, which only queries the database
+ * for pairs missing from it.
+ */
+public class OrderCatalog {
+
+    private final Map<Long, Size> sizes;
+    private final Map<Long, Flavor> flavors;
+    private final ProductPriceService productPriceService;
+
+    OrderCatalog(Map<Long, Size> sizes, Map<Long, Flavor> flavors, ProductPriceService productPriceService) {
+        this.sizes = sizes;
+        this.flavors = flavors;
+        this.productPriceService = productPriceService;
+    }
+
+    public Size getSize(Long sizeId) {
+        Size size = sizes.get(sizeId);
+        if (size == null) {
+            throw new EntityNotFoundException("Size not found with id: " + sizeId);
+        }
+        return size;
+    }
+
+    public Flavor getFlavor(Long flavorId) {
+        Flavor flavor = flavors.get(flavorId);
+        if (flavor == null) {
+            throw new EntityNotFoundException("Flavor not found with id: " + flavorId);
+        }
+        return flavor;
+    }
+
+    public BigDecimal calculateUnitPrice(Size size, Flavor flavor1, Flavor flavor2) {
+        return productPriceService.calculateUnitPrice(size, flavor1, flavor2);
+    }
+}
@@ -0,0 +1,47 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.model.Flavor;
+import com.chocolog.api.model.Size;
+import com.chocolog.api.repository.FlavorRepository;
+import com.chocolog.api.repository.SizeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class OrderCatalogResolver {
+
+    private final SizeRepository sizeRepository;
+    private final FlavorRepository flavorRepository;
+    private final ProductPriceService productPriceService;
+    private final StockReservationLedger stockReservationLedger;
+
+    public OrderCatalog resolve(Collection<OrderItemRequestDTO> items) {
+        Set<Long> sizeIds = new HashSet<>();
+        Set<Long> flavorIds = new HashSet<>();
+        for (OrderItemRequestDTO item : items) {
+            sizeIds.add(item.getSizeId());
+            flavorIds.add(item.getFlavor1Id());
+            if (item.getFlavor2Id() != null) {
+                flavorIds.add(item.getFlavor2Id());
+            }
+        }
+
+        Map<Long, Size> sizes = sizeRepository.findAllById(sizeIds).stream()
+                .collect(Collectors.toMap(Size::getId, Function.identity()));
+        Map<Long, Flavor> flavors = flavorRepository.findAllById(flavorIds).stream()
+                .collect(Collectors.toMap(Flavor::getId, Function.identity()));
+
+        stockReservationLedger.preload(flavorIds, sizeIds);
+
+        return new OrderCatalog(sizes, flavors, productPriceService);
+    }
+}
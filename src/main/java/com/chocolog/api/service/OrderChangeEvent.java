@@ -0,0 +1,57 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.model.Order;
+import com.chocolog.api.model.OrderItem;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Change to an order, order item, stock level or print batch, published inside the changing transaction and sent
+ * to the {@code /orders/events} stream once it commits.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderChangeEvent(
+        Type type,
+        Long orderId,
+        Long orderItemId,
+        String status,
+        LocalDateTime expectedPickupDate,
+        Long flavorId,
+        Long sizeId,
+        Long printBatchId,
+        List<Long> orderItemIds,
+        LocalDateTime occurredAt
+) {
+
+    public enum Type {
+        ORDER_CREATED,
+        ORDER_UPDATED,
+        ORDER_ITEM_CREATED,
+        ORDER_ITEM_UPDATED,
+        ORDER_ITEM_DELETED,
+        STOCK_CHANGED,
+        PRINT_BATCH_CREATED
+    }
+
+    static OrderChangeEvent ofOrder(Type type, Order order) {
+        return new OrderChangeEvent(type, order.getId(), null, String.valueOf(order.getStatus()),
+                order.getExpectedPickupDate(), null, null, null, null, LocalDateTime.now());
+    }
+
+    static OrderChangeEvent ofOrderItem(Type type, OrderItem item) {
+        return new OrderChangeEvent(type, item.getOrder().getId(), item.getId(), String.valueOf(item.getStatus()),
+                item.getOrder().getExpectedPickupDate(), null, null, null, null, LocalDateTime.now());
+    }
+
+    static OrderChangeEvent ofStock(Long flavorId, Long sizeId) {
+        return new OrderChangeEvent(Type.STOCK_CHANGED, null, null, null, null,
+                flavorId, sizeId, null, null, LocalDateTime.now());
+    }
+
+    static OrderChangeEvent ofPrintBatch(Long printBatchId, List<Long> orderItemIds) {
+        return new OrderChangeEvent(Type.PRINT_BATCH_CREATED, null, null, null, null,
+                null, null, printBatchId, orderItemIds, LocalDateTime.now());
+    }
+}
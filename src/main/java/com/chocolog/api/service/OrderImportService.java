@@ -0,0 +1,408 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.request.OrderImportRowDTO;
+import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.dto.request.OrderRequestDTO;
+import com.chocolog.api.dto.response.OrderImportResponseDTO;
+import com.chocolog.api.dto.response.OrderImportRowResultDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports reseller order lists line by line. Each row is one order item; consecutive rows sharing a
+ * {@code reference} form one order, which is closed as soon as the reference changes, so only the orders of the
+ * current chunk are held in memory however long the file is. A row repeating the reference of an order already
+ * closed is rejected on its own. An order is rejected as a whole when any of its rows is invalid or disagrees with
+ * the others on an order-level field, so no partial order is ever created. Orders are created in chunked
+ * transactions, and a failing chunk is replayed order by order so a bad row only rejects its own order.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderImportService {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    private static final String IMPORTED = "IMPORTED";
+    private static final String FAILED = "FAILED";
+
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${chocolog.orders.import.chunk-size:100}")
+    private int chunkSize;
+
+    public OrderImportResponseDTO importOrders(InputStream inputStream, MediaType contentType, Long employeeId) {
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        if (!csv && !APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            throw new IllegalArgumentException("Unsupported import format: " + contentType + ". Use text/csv or application/x-ndjson.");
+        }
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+        OrderStream orders = new OrderStream(employeeId, report);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, charset))) {
+            List<String> header = null;
+            String line;
+            int lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && header == null) {
+                    header = parseCsvLine(line);
+                    continue;
+                }
+
+                report.totalRows++;
+                OrderImportRowDTO row;
+                try {
+                    row = csv ? readCsvRow(header, line) : objectMapper.readValue(line, OrderImportRowDTO.class);
+                } catch (JsonProcessingException e) {
+                    orders.rejectRow(lineNumber, findReference(csv, header, line), "Invalid row: " + e.getOriginalMessage());
+                    continue;
+                } catch (IllegalArgumentException e) {
+                    orders.rejectRow(lineNumber, findReference(csv, header, line), "Invalid row: " + firstLine(e.getMessage()));
+                    continue;
+                }
+
+                if (row.getReference() == null || row.getReference().isBlank()) {
+                    report.failRow(lineNumber, null, "Row reference cannot be blank");
+                    continue;
+                }
+
+                PendingOrder order = orders.orderFor(lineNumber, row.getReference());
+                if (order != null) {
+                    order.addRow(lineNumber, row);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read import file: " + e.getMessage(), e);
+        }
+        orders.finish();
+
+        report.rows.sort(Comparator.comparingInt(OrderImportRowResultDTO::getLine));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        double ordersPerMinute = report.importedOrders * 60_000.0 / Math.max(elapsedMillis, 1);
+        log.info("Imported {} orders ({} failed) from {} rows in {} ms ({} orders/min).",
+                report.importedOrders, report.failedOrders, report.totalRows, elapsedMillis, Math.round(ordersPerMinute));
+
+        return new OrderImportResponseDTO(report.totalRows, report.importedOrders, report.failedOrders,
+                elapsedMillis, ordersPerMinute, report.rows);
+    }
+
+    private void processChunk(List<PendingOrder> chunk, Long employeeId, ImportReport report) {
+        List<PendingOrder> valid = new ArrayList<>();
+        for (PendingOrder order : chunk) {
+            if (order.error != null) {
+                report.failOrder(order, order.error);
+            } else {
+                valid.add(order);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Long> orderIds = transactionTemplate.execute(status -> valid.stream()
+                    .map(order -> create(order, employeeId))
+                    .toList());
+            for (int i = 0; i < valid.size(); i++) {
+                report.importOrder(valid.get(i), orderIds.get(i));
+            }
+        } catch (RuntimeException chunkFailure) {
+            log.debug("Import chunk of {} orders failed, retrying one by one: {}", valid.size(), chunkFailure.getMessage());
+            entityManager.clear();
+            for (PendingOrder order : valid) {
+                try {
+                    Long orderId = transactionTemplate.execute(status -> create(order, employeeId));
+                    report.importOrder(order, orderId);
+                } catch (RuntimeException e) {
+                    report.failOrder(order, e.getMessage());
+                } finally {
+                    entityManager.clear();
+                }
+            }
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private String findReference(boolean csv, List<String> header, String line) {
+        try {
+            if (csv) {
+                int column = header.stream().map(String::trim).toList().indexOf("reference");
+                List<String> values = parseCsvLine(line);
+                return column >= 0 && column < values.size() ? values.get(column).trim() : null;
+            }
+            return objectMapper.readTree(line).path("reference").textValue();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private Long create(PendingOrder order, Long employeeId) {
+        return orderService.create(order.customerId, order.request, employeeId).getId();
+    }
+
+    private OrderImportRowDTO readCsvRow(List<String> header, String line) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("Row has " + values.size() + " columns but header has " + header.size());
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                fields.put(header.get(i).trim(), value);
+            }
+        }
+        return objectMapper.convertValue(fields, OrderImportRowDTO.class);
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return null;
+        }
+        int end = message.indexOf('\n');
+        return end >= 0 ? message.substring(0, end) : message;
+    }
+
+    /**
+     * Groups the rows read so far into orders and hands every closed order to the current chunk, creating the
+     * chunk once it is full. Only the references of closed orders are kept, to catch a reference coming back later.
+     */
+    private final class OrderStream {
+
+        private final Long employeeId;
+        private final ImportReport report;
+        private final List<PendingOrder> chunk = new ArrayList<>(chunkSize);
+        private final Set<String> closedReferences = new HashSet<>();
+        private PendingOrder current;
+
+        private OrderStream(Long employeeId, ImportReport report) {
+            this.employeeId = employeeId;
+            this.report = report;
+        }
+
+        /**
+         * Order the row with this reference belongs to, closing the previous one when the reference changes.
+         * Returns null, after failing the row, when the reference belongs to an order already closed.
+         */
+        private PendingOrder orderFor(int lineNumber, String reference) {
+            if (current != null && current.reference.equals(reference)) {
+                return current;
+            }
+            close();
+            if (closedReferences.contains(reference)) {
+                report.failRow(lineNumber, reference, "Rows of reference " + reference
+                        + " must be consecutive; its order was already closed by an earlier row");
+                return null;
+            }
+            current = new PendingOrder(reference);
+            return current;
+        }
+
+        /**
+         * Fails an unreadable row. When its reference can still be made out, the rest of that order fails with it.
+         */
+        private void rejectRow(int lineNumber, String reference, String message) {
+            if (reference == null || reference.isBlank()) {
+                report.failRow(lineNumber, null, message);
+                return;
+            }
+            PendingOrder order = orderFor(lineNumber, reference);
+            if (order != null) {
+                order.reject(lineNumber, message);
+            }
+        }
+
+        private void finish() {
+            close();
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, employeeId, report);
+                chunk.clear();
+            }
+        }
+
+        private void close() {
+            if (current == null) {
+                return;
+            }
+            closedReferences.add(current.reference);
+            chunk.add(current.validate(validator));
+            current = null;
+            if (chunk.size() >= chunkSize) {
+                processChunk(chunk, employeeId, report);
+                chunk.clear();
+            }
+        }
+    }
+
+    private static final class PendingOrder {
+
+        private final String reference;
+        private Long customerId;
+        private final OrderRequestDTO request = new OrderRequestDTO();
+        private final List<Integer> lines = new ArrayList<>();
+        private String error;
+
+        private PendingOrder(String reference) {
+            this.reference = reference;
+            request.setOrderItems(new ArrayList<>());
+        }
+
+        private void addRow(int lineNumber, OrderImportRowDTO row) {
+            lines.add(lineNumber);
+            customerId = merge(lineNumber, "customerId", customerId, row.getCustomerId());
+            request.setExpectedPickupDate(merge(lineNumber, "expectedPickupDate", request.getExpectedPickupDate(), row.getExpectedPickupDate()));
+            request.setNotes(merge(lineNumber, "notes", request.getNotes(), row.getNotes()));
+            request.setDiscount(merge(lineNumber, "discount", request.getDiscount(), row.getDiscount()));
+            request.getOrderItems().add(OrderItemRequestDTO.builder()
+                    .sizeId(row.getSizeId())
+                    .flavor1Id(row.getFlavor1Id())
+                    .flavor2Id(row.getFlavor2Id())
+                    .quantity(row.getQuantity())
+                    .notes(row.getItemNotes())
+                    .build());
+        }
+
+        private void reject(int lineNumber, String message) {
+            lines.add(lineNumber);
+            fail("Line " + lineNumber + ": " + message);
+        }
+
+        /**
+         * Order-level fields may be repeated on every row or given once; a row that sets a different value
+         * than an earlier row of the same reference fails the order.
+         */
+        private <T> T merge(int lineNumber, String field, T current, T value) {
+            if (value == null) {
+                return current;
+            }
+            if (current == null) {
+                return value;
+            }
+            boolean same = current instanceof BigDecimal amount
+                    ? amount.compareTo((BigDecimal) value) == 0
+                    : current.equals(value);
+            if (!same) {
+                fail("Line " + lineNumber + ": " + field + " differs from earlier rows of reference " + reference);
+            }
+            return current;
+        }
+
+        private void fail(String message) {
+            if (error == null) {
+                error = message;
+            }
+        }
+
+        private PendingOrder validate(Validator validator) {
+            if (error != null) {
+                return this;
+            }
+            if (customerId == null) {
+                error = "Customer ID cannot be null";
+                return this;
+            }
+            Set<ConstraintViolation<OrderRequestDTO>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                error = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+            return this;
+        }
+    }
+
+    private static final class ImportReport {
+
+        private final List<OrderImportRowResultDTO> rows = new ArrayList<>();
+        private int totalRows;
+        private int importedOrders;
+        private int failedOrders;
+
+        private void failRow(int lineNumber, String reference, String message) {
+            rows.add(new OrderImportRowResultDTO(lineNumber, reference, FAILED, null, message));
+        }
+
+        private void importOrder(PendingOrder order, Long orderId) {
+            importedOrders++;
+            order.lines.forEach(line -> rows.add(new OrderImportRowResultDTO(line, order.reference, IMPORTED, orderId, null)));
+        }
+
+        private void failOrder(PendingOrder order, String message) {
+            failedOrders++;
+            order.lines.forEach(line -> failRow(line, order.reference, message));
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.chocolog.api.service;
 
+import com.chocolog.api.audit.AuditHelper;
+import com.chocolog.api.dto.request.OrderItemBulkStatusRequestDTO;
 import com.chocolog.api.dto.request.OrderItemPatchRequestDTO;
 import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.dto.request.ProductionBoardRequestDTO;
+import com.chocolog.api.dto.response.CursorPageResponseDTO;
 import com.chocolog.api.dto.response.OrderItemResponseDTO;
 import com.chocolog.api.mapper.OrderItemMapper;
 import com.chocolog.api.model.*;
 import com.chocolog.api.repository.*;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,8 +37,12 @@ public class OrderItemService {
     private final SizeRepository sizeRepository;
     private final FlavorRepository flavorRepository;
     private final ProductPriceService productPriceService;
+    private final OrderCatalogResolver orderCatalogResolver;
     private final OrderService orderService;
+    private final OrderAggregateRecalculator orderAggregateRecalculator;
     private final OrderItemMapper orderItemMapper;
+    private final AuditHelper auditHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<OrderItemResponseDTO> findAll(Boolean onDemand) {
         if (onDemand != null && onDemand) {
@@ -34,6 +51,39 @@ public class OrderItemService {
         return orderItemRepository.findAllAsDTO();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<OrderItemResponseDTO> findProductionBoard(ProductionBoardRequestDTO boardDTO) {
+        ProductionBoardCursor after = boardDTO.getCursor() != null
+                ? ProductionBoardCursor.decode(boardDTO.getCursor())
+                : null;
+        int pageSize = boardDTO.getSize() != null ? boardDTO.getSize() : 50;
+
+        ProductionBoardQuery query = new ProductionBoardQuery(
+                boardDTO.getStatus() != null ? OrderStatus.valueOf(boardDTO.getStatus().toUpperCase()) : null,
+                boardDTO.getPickupFrom() != null ? boardDTO.getPickupFrom().atStartOfDay() : null,
+                boardDTO.getPickupTo() != null ? boardDTO.getPickupTo().atTime(LocalTime.MAX) : null,
+                boardDTO.getPrinted(),
+                boardDTO.getOnDemand(),
+                boardDTO.getSizeId(),
+                boardDTO.getFlavorId(),
+                after != null ? after.pickupDate() : null,
+                after != null ? after.id() : null,
+                pageSize + 1
+        );
+
+        List<OrderItemResponseDTO> items = orderItemRepository.findBoardItems(query);
+        boolean hasNext = items.size() > pageSize;
+        List<OrderItemResponseDTO> page = hasNext ? items.subList(0, pageSize) : items;
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderItemResponseDTO last = page.get(page.size() - 1);
+            nextCursor = new ProductionBoardCursor(last.getExpectedPickupDate(), last.getId()).encode();
+        }
+
+        return new CursorPageResponseDTO<>(page, nextCursor, hasNext);
+    }
+
     @Transactional
     public OrderItemResponseDTO addItemToOrder(Long customerId, Long orderId, OrderItemRequestDTO itemDTO) {
         Order order = findOrderAndValidate(orderId, customerId);
@@ -44,9 +94,10 @@ public class OrderItemService {
 
         OrderItem item = buildNewOrderItem(itemDTO, order);
         OrderItem savedItem = orderItemRepository.save(item);
+        order.getOrderItems().add(savedItem);
 
-        orderService.recalculateOrderCharge(orderId);
-        orderService.recalculateAndSaveOrderStatus(orderId);
+        publishRecalculation(order, orderAggregateRecalculator.recalculate(order));
+        eventPublisher.publishEvent(OrderChangeEvent.ofOrderItem(OrderChangeEvent.Type.ORDER_ITEM_CREATED, savedItem));
 
         return orderItemMapper.toResponseDTO(savedItem);
     }
@@ -92,8 +143,8 @@ public class OrderItemService {
         item.setTotalPrice(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
 
         OrderItem updatedItem = orderItemRepository.save(item);
-        orderService.recalculateOrderCharge(orderId);
-        orderService.recalculateAndSaveOrderStatus(orderId);
+        publishRecalculation(order, orderAggregateRecalculator.recalculate(order));
+        eventPublisher.publishEvent(OrderChangeEvent.ofOrderItem(OrderChangeEvent.Type.ORDER_ITEM_UPDATED, updatedItem));
 
         return orderItemMapper.toResponseDTO(updatedItem);
     }
@@ -122,38 +173,124 @@ public class OrderItemService {
         order.getOrderItems().remove(itemToDelete);
         orderItemRepository.delete(itemToDelete);
 
-        orderService.recalculateOrderCharge(orderId);
-        orderService.recalculateAndSaveOrderStatus(orderId);
+        publishRecalculation(order, orderAggregateRecalculator.recalculate(order));
+        eventPublisher.publishEvent(OrderChangeEvent.ofOrderItem(OrderChangeEvent.Type.ORDER_ITEM_DELETED, itemToDelete));
+    }
+
+    /**
+     * Moves many items to the same status with the rules of a single item update. The items are written with one
+     * bulk UPDATE and one audit row, finished stock is deducted once per flavor and size, and each affected order
+     * is recalculated once.
+     */
+    @Transactional
+    public List<OrderItemResponseDTO> updateStatuses(OrderItemBulkStatusRequestDTO bulkDTO) {
+        OrderStatus newStatus = OrderStatus.valueOf(bulkDTO.getStatus().toUpperCase());
+        Set<Long> requestedIds = new LinkedHashSet<>(bulkDTO.getOrderItemIds());
+
+        Map<Long, OrderItem> itemsById = orderRepository.findDistinctByOrderItems_IdIn(requestedIds).stream()
+                .flatMap(order -> order.getOrderItems().stream())
+                .filter(item -> requestedIds.contains(item.getId()))
+                .collect(Collectors.toMap(OrderItem::getId, Function.identity()));
+
+        List<OrderItem> changedItems = new ArrayList<>();
+        for (Long itemId : requestedIds) {
+            OrderItem item = itemsById.get(itemId);
+            if (item == null) {
+                throw new EntityNotFoundException("OrderItem not found with id: " + itemId);
+            }
+
+            OrderStatus orderStatus = item.getOrder().getStatus();
+            if (orderStatus == OrderStatus.COMPLETED || orderStatus == OrderStatus.CANCELLED) {
+                throw new IllegalStateException("Cannot edit items in a COMPLETED or CANCELLED order.");
+            }
+            if (item.getStatus() == OrderStatus.COMPLETED || item.getStatus() == OrderStatus.CANCELLED) {
+                throw new IllegalStateException("Cannot edit a COMPLETED or CANCELLED item.");
+            }
+            if (item.getStatus() != newStatus) {
+                validateManualStatusTransition(item, newStatus);
+                changedItems.add(item);
+            }
+        }
+
+        Set<Long> changedIds = changedItems.stream()
+                .map(OrderItem::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!changedIds.isEmpty()) {
+            if (newStatus == OrderStatus.COMPLETED) {
+                changedItems.stream()
+                        .filter(item -> !item.getOnDemand())
+                        .collect(Collectors.groupingBy(OrderItem::getFlavor1,
+                                Collectors.groupingBy(OrderItem::getSize, Collectors.summingInt(OrderItem::getQuantity))))
+                        .forEach((flavor, quantitiesBySize) -> quantitiesBySize.forEach((size, quantity) ->
+                                orderService.adjustTotalStock(flavor, size, -quantity)));
+            }
+
+            orderItemRepository.updateStatus(changedIds, newStatus);
+            auditHelper.saveBulkAudit(OrderItem.class.getSimpleName(), "UPDATE",
+                    Map.of("orderItemIds", changedIds, "status", newStatus));
+        }
+
+        Set<Long> affectedOrderIds = itemsById.values().stream()
+                .map(item -> item.getOrder().getId())
+                .collect(Collectors.toSet());
+
+        Map<Long, OrderItem> reloadedItemsById = new HashMap<>();
+        for (Order order : orderRepository.findByIdIn(affectedOrderIds)) {
+            boolean orderHasChanges = false;
+            for (OrderItem item : order.getOrderItems()) {
+                reloadedItemsById.put(item.getId(), item);
+                if (changedIds.contains(item.getId())) {
+                    orderHasChanges = true;
+                    eventPublisher.publishEvent(OrderChangeEvent.ofOrderItem(OrderChangeEvent.Type.ORDER_ITEM_UPDATED, item));
+                }
+            }
+            if (orderHasChanges) {
+                publishRecalculation(order, orderAggregateRecalculator.recalculate(order));
+            }
+        }
+
+        return requestedIds.stream()
+                .map(reloadedItemsById::get)
+                .map(orderItemMapper::toResponseDTO)
+                .toList();
+    }
+
+    private void publishRecalculation(Order order, OrderAggregateRecalculator.OrderRecalculation recalculation) {
+        if (recalculation.orderChanged()) {
+            eventPublisher.publishEvent(OrderChangeEvent.ofOrder(OrderChangeEvent.Type.ORDER_UPDATED, order));
+        }
     }
 
     private void handleManualStatusUpdate(OrderItem item, OrderStatus newStatus) {
+        if (item.getStatus() == newStatus) return;
+
+        validateManualStatusTransition(item, newStatus);
+        item.setStatus(newStatus);
+        if (newStatus == OrderStatus.COMPLETED && !item.getOnDemand()) {
+            orderService.adjustTotalStock(item.getFlavor1(), item.getSize(), -item.getQuantity());
+        }
+    }
+
+    private void validateManualStatusTransition(OrderItem item, OrderStatus newStatus) {
         OrderStatus currentStatus = item.getStatus();
-        if (currentStatus == newStatus) return;
 
         if (currentStatus == OrderStatus.PENDING && newStatus == OrderStatus.READY_FOR_PICKUP) {
             if (!item.getOnDemand()) {
                 throw new IllegalStateException("A non-onDemand item cannot be manually moved to READY_FOR_PICKUP, it starts as such.");
             }
-            item.setStatus(newStatus);
-        }
-
-        else if (currentStatus == OrderStatus.READY_FOR_PICKUP && newStatus == OrderStatus.COMPLETED) {
-            item.setStatus(newStatus);
-            if (!item.getOnDemand()) {
-                orderService.adjustTotalStock(item.getFlavor1(), item.getSize(), -item.getQuantity());
-            }
         }
 
-        else {
+        else if (currentStatus != OrderStatus.READY_FOR_PICKUP || newStatus != OrderStatus.COMPLETED) {
             throw new IllegalArgumentException("Invalid manual status transition from " + currentStatus + " to " + newStatus);
         }
     }
 
     private OrderItem buildNewOrderItem(OrderItemRequestDTO itemDTO, Order order) {
-        Size size = findSizeOrFail(itemDTO.getSizeId());
-        Flavor flavor1 = findFlavorOrFail(itemDTO.getFlavor1Id());
-        Flavor flavor2 = itemDTO.getFlavor2Id() != null ? findFlavorOrFail(itemDTO.getFlavor2Id()) : null;
-        BigDecimal unitPrice = productPriceService.calculateUnitPrice(size, flavor1, flavor2);
+        OrderCatalog catalog = orderCatalogResolver.resolve(List.of(itemDTO));
+        Size size = catalog.getSize(itemDTO.getSizeId());
+        Flavor flavor1 = catalog.getFlavor(itemDTO.getFlavor1Id());
+        Flavor flavor2 = itemDTO.getFlavor2Id() != null ? catalog.getFlavor(itemDTO.getFlavor2Id()) : null;
+        BigDecimal unitPrice = catalog.calculateUnitPrice(size, flavor1, flavor2);
 
         OrderItem item = new OrderItem();
         item.setOrder(order);
@@ -177,10 +314,7 @@ public class OrderItemService {
     }
 
     private void updateOnDemandStatus(OrderItem item) {
-        boolean onDemand = (item.getFlavor2() != null) ||
-                "1Kg".equalsIgnoreCase(item.getSize().getName()) ||
-                (item.getNotes() != null && !item.getNotes().isBlank());
-        item.setOnDemand(onDemand);
+        item.setOnDemand(OnDemandRule.isOnDemand(item.getSize(), item.getFlavor2(), item.getNotes()));
     }
 
     private void updateStockForModification(boolean wasOnDemand, boolean isNowOnDemand, int originalQuantity, Flavor originalFlavor1, Size originalSize, OrderItem currentItem) {
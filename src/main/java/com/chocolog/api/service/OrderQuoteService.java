@@ -0,0 +1,116 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.dto.request.OrderQuoteRequestDTO;
+import com.chocolog.api.dto.response.OrderQuoteItemResponseDTO;
+import com.chocolog.api.dto.response.OrderQuoteResponseDTO;
+import com.chocolog.api.model.Flavor;
+import com.chocolog.api.model.OrderStatus;
+import com.chocolog.api.model.Size;
+import com.chocolog.api.repository.FlavorRepository;
+import com.chocolog.api.repository.SizeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Prices a cart the way {@link OrderService#create} would, without reserving stock or writing anything: prices come
+ * from the price matrix and stock from the reservation ledger, so only the sizes and flavors are read.
+ */
+@RequiredArgsConstructor
+@Service
+public class OrderQuoteService {
+
+    private final SizeRepository sizeRepository;
+    private final FlavorRepository flavorRepository;
+    private final ProductPriceService productPriceService;
+    private final StockReservationLedger stockReservationLedger;
+
+    @Transactional(readOnly = true)
+    public OrderQuoteResponseDTO quote(OrderQuoteRequestDTO quoteDTO) {
+        Set<Long> sizeIds = new HashSet<>();
+        Set<Long> flavorIds = new HashSet<>();
+        for (OrderItemRequestDTO itemDTO : quoteDTO.getOrderItems()) {
+            sizeIds.add(itemDTO.getSizeId());
+            flavorIds.add(itemDTO.getFlavor1Id());
+            if (itemDTO.getFlavor2Id() != null) {
+                flavorIds.add(itemDTO.getFlavor2Id());
+            }
+        }
+
+        Map<Long, Size> sizes = sizeRepository.findAllById(sizeIds).stream()
+                .collect(Collectors.toMap(Size::getId, Function.identity()));
+        Map<Long, Flavor> flavors = flavorRepository.findAllById(flavorIds).stream()
+                .collect(Collectors.toMap(Flavor::getId, Function.identity()));
+        stockReservationLedger.preload(flavorIds, sizeIds);
+
+        Map<List<Long>, Integer> requestedStock = new HashMap<>();
+        List<OrderQuoteItemResponseDTO> items = new ArrayList<>();
+        BigDecimal subtotalAmount = BigDecimal.ZERO;
+        boolean hasPendingItems = false;
+        boolean stockAvailable = true;
+
+        for (OrderItemRequestDTO itemDTO : quoteDTO.getOrderItems()) {
+            Size size = getOrFail(sizes, itemDTO.getSizeId(), "Size");
+            Flavor flavor1 = getOrFail(flavors, itemDTO.getFlavor1Id(), "Flavor");
+            Flavor flavor2 = itemDTO.getFlavor2Id() != null ? getOrFail(flavors, itemDTO.getFlavor2Id(), "Flavor") : null;
+
+            BigDecimal unitPrice = productPriceService.calculateUnitPrice(size, flavor1, flavor2);
+            BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(itemDTO.getQuantity()));
+            subtotalAmount = subtotalAmount.add(totalPrice);
+
+            boolean onDemand = OnDemandRule.isOnDemand(size, flavor2, itemDTO.getNotes());
+            Integer availableStock = null;
+            Boolean lineStockAvailable = null;
+            if (onDemand) {
+                hasPendingItems = true;
+            } else {
+                List<Long> stockKey = List.of(flavor1.getId(), size.getId());
+                int alreadyRequested = requestedStock.getOrDefault(stockKey, 0);
+                int available = stockReservationLedger.findAvailable(flavor1.getId(), size.getId()).orElse(0);
+
+                availableStock = Math.max(0, available - alreadyRequested);
+                lineStockAvailable = itemDTO.getQuantity() <= availableStock;
+                stockAvailable &= lineStockAvailable;
+                requestedStock.put(stockKey, alreadyRequested + itemDTO.getQuantity());
+            }
+
+            items.add(new OrderQuoteItemResponseDTO(
+                    size.getId(),
+                    flavor1.getId(),
+                    flavor2 != null ? flavor2.getId() : null,
+                    itemDTO.getQuantity(),
+                    unitPrice,
+                    totalPrice,
+                    onDemand,
+                    (onDemand ? OrderStatus.PENDING : OrderStatus.READY_FOR_PICKUP).name(),
+                    availableStock,
+                    lineStockAvailable));
+        }
+
+        BigDecimal discount = quoteDTO.getDiscount() != null ? quoteDTO.getDiscount() : BigDecimal.ZERO;
+        OrderStatus status = hasPendingItems ? OrderStatus.PENDING : OrderStatus.READY_FOR_PICKUP;
+
+        return new OrderQuoteResponseDTO(items, subtotalAmount, discount, subtotalAmount.subtract(discount),
+                status.name(), stockAvailable);
+    }
+
+    private <T> T getOrFail(Map<Long, T> entities, Long id, String entityName) {
+        T entity = entities.get(id);
+        if (entity == null) {
+            throw new EntityNotFoundException(entityName + " not found with id: " + id);
+        }
+        return entity;
+    }
+}
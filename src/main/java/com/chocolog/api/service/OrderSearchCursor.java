@@ -0,0 +1,35 @@
+package com.chocolog.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position of an order search page: the sort field, its value and the id of the last row.
+ */
+record OrderSearchCursor(String sort, LocalDateTime value, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = sort + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static OrderSearchCursor decode(String cursor, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            if (!parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException("Cursor was created for sort '" + parts[0] + "' and cannot be used with '" + expectedSort + "'.");
+            }
+            return new OrderSearchCursor(parts[0], LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+}
@@ -3,20 +3,27 @@ package com.chocolog.api.service;
 import com.chocolog.api.dto.request.OrderItemRequestDTO;
 import com.chocolog.api.dto.request.OrderPatchRequestDTO;
 import com.chocolog.api.dto.request.OrderRequestDTO;
+import com.chocolog.api.dto.request.OrderSearchRequestDTO;
+import com.chocolog.api.dto.response.CursorPageResponseDTO;
 import com.chocolog.api.dto.response.OrderResponseDTO;
 import com.chocolog.api.mapper.OrderMapper;
 import com.chocolog.api.model.*;
 import com.chocolog.api.repository.*;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -27,13 +34,15 @@ public class OrderService {
     private final CustomerRepository customerRepository;
     private final EmployeeRepository employeeRepository;
     private final ChargeRepository chargeRepository;
-    private final SizeRepository sizeRepository;
-    private final FlavorRepository flavorRepository;
     private final StockRepository stockRepository;
-    private final ProductPriceService productPriceService;
+    private final StockReservationLedger stockReservationLedger;
+    private final OrderCatalogResolver orderCatalogResolver;
+    private final OrderSummaryAssembler orderSummaryAssembler;
     private final PaymentService paymentService;
     private final OrderMapper orderMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public List<OrderResponseDTO> findAllByDateFilter(String dateString) {
         LocalDate startDate;
         LocalDate endDate;
@@ -49,28 +58,75 @@ public class OrderService {
             throw new IllegalArgumentException("Invalid date format. Use YYYY-MM or YYYY-MM-DD.");
         }
 
-        List<Order> orders = orderRepository.findByExpectedPickupDateBetweenOrderByExpectedPickupDate(
+        List<OrderSummaryRow> rows = orderRepository.findSummaryRowsByExpectedPickupDateBetween(
                 startDate.atStartOfDay(),
                 endDate.atTime(23, 59, 59, 999999999)
         );
 
-        return orders.stream()
-                .map(orderMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return orderSummaryAssembler.assemble(rows);
     }
 
+    @Transactional(readOnly = true)
     public List<OrderResponseDTO> findAllByCustomerId(Long customerId) {
         if (!customerRepository.existsById(customerId)) {
             throw new EntityNotFoundException("Customer not found for id: " + customerId);
         }
-        return orderRepository.findByCustomerId(customerId).stream()
-                .map(orderMapper::toResponseDTO)
-                .toList();
+        return orderSummaryAssembler.assemble(orderRepository.findSummaryRowsByCustomerId(customerId));
     }
 
+    @Transactional(readOnly = true)
     public OrderResponseDTO findByIdAndCustomerId(Long orderId, Long customerId) {
         Order order = findOrderOrFail(orderId, customerId);
-        return orderMapper.toResponseDTO(order);
+        return toResponseDTOs(List.of(order)).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<OrderResponseDTO> search(OrderSearchRequestDTO searchDTO) {
+        boolean sortByPickupDate = "expectedPickupDate".equals(searchDTO.getSort());
+        boolean ascending = "ASC".equalsIgnoreCase(searchDTO.getDirection());
+        OrderSearchCursor after = searchDTO.getCursor() != null
+                ? OrderSearchCursor.decode(searchDTO.getCursor(), searchDTO.getSort())
+                : null;
+        int pageSize = searchDTO.getSize() != null ? searchDTO.getSize() : 20;
+
+        OrderSearchQuery query = new OrderSearchQuery(
+                searchDTO.getStatus() != null ? OrderStatus.valueOf(searchDTO.getStatus().toUpperCase()) : null,
+                searchDTO.getCustomerId(),
+                searchDTO.getEmployeeId(),
+                searchDTO.getChargeStatus() != null ? ChargeStatus.valueOf(searchDTO.getChargeStatus().toUpperCase()) : null,
+                searchDTO.getCreatedFrom() != null ? searchDTO.getCreatedFrom().atStartOfDay() : null,
+                searchDTO.getCreatedTo() != null ? searchDTO.getCreatedTo().atTime(LocalTime.MAX) : null,
+                searchDTO.getPickupFrom() != null ? searchDTO.getPickupFrom().atStartOfDay() : null,
+                searchDTO.getPickupTo() != null ? searchDTO.getPickupTo().atTime(LocalTime.MAX) : null,
+                searchDTO.getOnDemand(),
+                sortByPickupDate,
+                ascending,
+                after != null ? after.value() : null,
+                after != null ? after.id() : null,
+                pageSize + 1
+        );
+
+        List<Long> ids = orderRepository.searchIds(query);
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+
+        Map<Long, Order> ordersById = pageIds.isEmpty() ? Map.of() : orderRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<Order> orders = pageIds.stream()
+                .map(ordersById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext && orders.isEmpty()) {
+            nextCursor = searchDTO.getCursor();
+        } else if (hasNext) {
+            Order last = orders.get(orders.size() - 1);
+            LocalDateTime lastValue = sortByPickupDate ? last.getExpectedPickupDate() : last.getCreationDate();
+            nextCursor = new OrderSearchCursor(searchDTO.getSort(), lastValue, last.getId()).encode();
+        }
+
+        return new CursorPageResponseDTO<>(toResponseDTOs(orders), nextCursor, hasNext);
     }
 
     @Transactional
@@ -85,8 +141,9 @@ public class OrderService {
         order.setNotes(orderDTO.getNotes());
         order.setCreationDate(LocalDateTime.now());
 
+        OrderCatalog catalog = orderCatalogResolver.resolve(orderDTO.getOrderItems());
         List<OrderItem> items = orderDTO.getOrderItems().stream()
-                .map(itemDTO -> buildOrderItem(itemDTO, order))
+                .map(itemDTO -> buildOrderItem(itemDTO, order, catalog))
                 .collect(Collectors.toList());
         order.setOrderItems(items);
 
@@ -97,6 +154,7 @@ public class OrderService {
         order.setCharges(charge);
 
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderChangeEvent.ofOrder(OrderChangeEvent.Type.ORDER_CREATED, savedOrder));
         return orderMapper.toResponseDTO(savedOrder);
     }
 
@@ -161,69 +219,46 @@ public class OrderService {
         }
 
         Order updatedOrder = orderRepository.save(existingOrder);
+        eventPublisher.publishEvent(OrderChangeEvent.ofOrder(OrderChangeEvent.Type.ORDER_UPDATED, updatedOrder));
         return orderMapper.toResponseDTO(updatedOrder);
     }
 
-    @Transactional
-    public void recalculateAndSaveOrderStatus(Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new EntityNotFoundException("Order not found for id: " + orderId));
-
-        if (order.getStatus() == OrderStatus.COMPLETED || order.getStatus() == OrderStatus.CANCELLED) {
-            return;
-        }
-
-        List<OrderItem> items = order.getOrderItems();
+    public void adjustRemainingStock(Flavor flavor, Size size, int quantityDelta) {
+        if (quantityDelta == 0) return;
 
-        if (items.stream().allMatch(item -> item.getStatus() == OrderStatus.COMPLETED)) {
-            order.setStatus(OrderStatus.COMPLETED);
-        } else if (items.stream().noneMatch(item -> item.getStatus() == OrderStatus.PENDING)) {
-            order.setStatus(OrderStatus.READY_FOR_PICKUP);
+        if (quantityDelta < 0) {
+            if (!stockReservationLedger.tryReserve(flavor.getId(), size.getId(), -quantityDelta)) {
+                throw new IllegalArgumentException("Insufficient stock for flavor id: " + flavor.getId() + " and size id: " + size.getId());
+            }
         } else {
-            order.setStatus(OrderStatus.PENDING);
+            stockReservationLedger.release(flavor.getId(), size.getId(), quantityDelta);
         }
-
-        orderRepository.save(order);
+        eventPublisher.publishEvent(OrderChangeEvent.ofStock(flavor.getId(), size.getId()));
     }
 
-    @Transactional
-    void recalculateOrderCharge(Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new EntityNotFoundException("Order not found for id: " + orderId));
-
-        BigDecimal subtotalAmount = order.getOrderItems().stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public void adjustTotalStock(Flavor flavor, Size size, int quantityDelta) {
+        if (quantityDelta == 0) return;
 
-        Charge charge = order.getCharges();
-        if (charge == null) {
-            throw new IllegalStateException("Order does not have an associated charge to update.");
+        int updatedRows = stockRepository.adjustTotal(flavor.getId(), size.getId(), quantityDelta);
+        if (updatedRows == 0) {
+            throw new IllegalStateException("Stock not found for flavor id: " + flavor.getId() + " and size id: " + size.getId());
         }
-
-        charge.setSubtotalAmount(subtotalAmount);
-        BigDecimal totalAmount = subtotalAmount.subtract(charge.getDiscount());
-        charge.setTotalAmount(totalAmount);
-
-        chargeRepository.save(charge);
-        paymentService.updateChargeStatus(charge);
+        eventPublisher.publishEvent(OrderChangeEvent.ofStock(flavor.getId(), size.getId()));
     }
 
-    public void adjustRemainingStock(Flavor flavor, Size size, int quantityDelta) {
-        if (quantityDelta == 0) return;
-
-        Stock stock = stockRepository.findByFlavorAndSize(flavor, size)
-                .orElseThrow(() -> new IllegalStateException("Stock not found for flavor id: " + flavor.getId() + " and size id: " + size.getId()));
-
-        stock.setRemainingQuantity(stock.getRemainingQuantity() + quantityDelta);
-        stockRepository.save(stock);
-    }
+    private List<OrderResponseDTO> toResponseDTOs(List<Order> orders) {
+        List<Long> chargeIds = orders.stream()
+                .map(Order::getCharges)
+                .filter(Objects::nonNull)
+                .map(Charge::getId)
+                .toList();
+        if (!chargeIds.isEmpty()) {
+            chargeRepository.findWithPaymentsByIdIn(chargeIds);
+        }
 
-    public void adjustTotalStock(Flavor flavor, Size size, int quantityDelta) {
-        if (quantityDelta == 0) return;
-        Stock stock = stockRepository.findByFlavorAndSize(flavor, size)
-                .orElseThrow(() -> new IllegalStateException("Stock not found..."));
-        stock.setTotalQuantity(stock.getTotalQuantity() + quantityDelta);
-        stockRepository.save(stock);
+        return orders.stream()
+                .map(orderMapper::toResponseDTO)
+                .collect(Collectors.toList());
     }
 
     private Charge createChargeForOrder(Order order, BigDecimal discount) {
@@ -239,18 +274,19 @@ public class OrderService {
         charge.setDiscount(discountValue);
         charge.setSubtotalAmount(subtotalAmount);
         charge.setTotalAmount(totalAmount);
+        charge.setPaidAmount(BigDecimal.ZERO);
         charge.setStatus(ChargeStatus.UNPAID);
         charge.setOrder(order);
 
         return charge;
     }
 
-    private OrderItem buildOrderItem(OrderItemRequestDTO itemDTO, Order order) {
-        Size size = findSizeOrFail(itemDTO.getSizeId());
-        Flavor flavor1 = findFlavorOrFail(itemDTO.getFlavor1Id());
-        Flavor flavor2 = itemDTO.getFlavor2Id() != null ? findFlavorOrFail(itemDTO.getFlavor2Id()) : null;
+    private OrderItem buildOrderItem(OrderItemRequestDTO itemDTO, Order order, OrderCatalog catalog) {
+        Size size = catalog.getSize(itemDTO.getSizeId());
+        Flavor flavor1 = catalog.getFlavor(itemDTO.getFlavor1Id());
+        Flavor flavor2 = itemDTO.getFlavor2Id() != null ? catalog.getFlavor(itemDTO.getFlavor2Id()) : null;
 
-        BigDecimal unitPrice = productPriceService.calculateUnitPrice(size, flavor1, flavor2);
+        BigDecimal unitPrice = catalog.calculateUnitPrice(size, flavor1, flavor2);
 
         OrderItem item = new OrderItem();
         item.setOrder(order);
@@ -262,7 +298,7 @@ public class OrderService {
         item.setUnitPrice(unitPrice);
         item.setTotalPrice(unitPrice.multiply(BigDecimal.valueOf(itemDTO.getQuantity())));
 
-        boolean onDemand = (flavor2 != null) || "1Kg".equalsIgnoreCase(size.getName()) || (itemDTO.getNotes() != null && !itemDTO.getNotes().isBlank());
+        boolean onDemand = OnDemandRule.isOnDemand(size, flavor2, itemDTO.getNotes());
         item.setOnDemand(onDemand);
 
         if (onDemand) {
@@ -280,7 +316,7 @@ public class OrderService {
             if (!item.getOnDemand() && item.getStatus() != OrderStatus.COMPLETED) {
                 adjustTotalStock(item.getFlavor1(), item.getSize(), -item.getQuantity());
             }
-            item.setStatus(OrderStatus.COMPLETED);
+            changeItemStatus(item, OrderStatus.COMPLETED);
         }
     }
 
@@ -289,18 +325,16 @@ public class OrderService {
             if (!item.getOnDemand() && item.getStatus() != OrderStatus.CANCELLED) {
                 adjustRemainingStock(item.getFlavor1(), item.getSize(), item.getQuantity());
             }
-            item.setStatus(OrderStatus.CANCELLED);
+            changeItemStatus(item, OrderStatus.CANCELLED);
         }
     }
 
-    private Size findSizeOrFail(Long sizeId) {
-        return sizeRepository.findById(sizeId)
-                .orElseThrow(() -> new EntityNotFoundException("Size not found with id: " + sizeId));
-    }
-
-    private Flavor findFlavorOrFail(Long flavorId) {
-        return flavorRepository.findById(flavorId)
-                .orElseThrow(() -> new EntityNotFoundException("Flavor not found with id: " + flavorId));
+    private void changeItemStatus(OrderItem item, OrderStatus newStatus) {
+        if (item.getStatus() == newStatus) {
+            return;
+        }
+        item.setStatus(newStatus);
+        eventPublisher.publishEvent(OrderChangeEvent.ofOrderItem(OrderChangeEvent.Type.ORDER_ITEM_UPDATED, item));
     }
 
     private Order findOrderOrFail(Long orderId, Long customerId) {
@@ -0,0 +1,104 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.*;
+import com.chocolog.api.repository.OrderItemRepository;
+import com.chocolog.api.repository.OrderSummaryRow;
+import com.chocolog.api.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Builds {@link OrderResponseDTO}s from flat projection rows: one query for the orders, one for their
+ * items and one for the payments of their charges, without loading managed entities.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryAssembler {
+
+    private final OrderItemRepository orderItemRepository;
+    private final PaymentRepository paymentRepository;
+
+    public List<OrderResponseDTO> assemble(List<OrderSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> orderIds = rows.stream().map(OrderSummaryRow::id).toList();
+        Map<Long, List<OrderItemResponseDTO>> itemsByOrder = orderItemRepository.findAllAsDTOByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItemResponseDTO::getOrderId));
+
+        List<Long> chargeIds = rows.stream()
+                .map(OrderSummaryRow::chargeId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, List<PaymentResponseDTO>> paymentsByCharge = chargeIds.isEmpty()
+                ? Map.of()
+                : paymentRepository.findAllAsDTOByChargeIdIn(chargeIds).stream()
+                        .collect(Collectors.groupingBy(PaymentResponseDTO::getChargeId));
+
+        return rows.stream()
+                .map(row -> toResponseDTO(row,
+                        itemsByOrder.getOrDefault(row.id(), List.of()),
+                        paymentsByCharge.getOrDefault(row.chargeId(), List.of())))
+                .toList();
+    }
+
+    private OrderResponseDTO toResponseDTO(OrderSummaryRow row, List<OrderItemResponseDTO> items, List<PaymentResponseDTO> payments) {
+        CustomerResponseDTO customer = row.customerId() != null
+                ? new CustomerResponseDTO(row.customerId(), row.customerName(), row.customerPhone(), row.customerIsReseller(), row.customerNotes())
+                : null;
+        EmployeeResponseDTO employee = row.employeeId() != null
+                ? new EmployeeResponseDTO(row.employeeId(), row.employeeName(), row.employeeLogin(), row.employeeRole())
+                : null;
+
+        return new OrderResponseDTO(
+                row.id(),
+                customer,
+                employee,
+                row.creationDate(),
+                row.expectedPickupDate(),
+                row.pickupDate(),
+                row.status(),
+                row.notes(),
+                items,
+                toChargeResponseDTO(row, payments)
+        );
+    }
+
+    private ChargeResponseDTO toChargeResponseDTO(OrderSummaryRow row, List<PaymentResponseDTO> payments) {
+        if (row.chargeId() == null) {
+            return null;
+        }
+        return new ChargeResponseDTO(
+                row.chargeId(),
+                row.id(),
+                row.chargeSubtotalAmount(),
+                row.chargeDiscount(),
+                row.chargeTotalAmount(),
+                row.chargeStatus(),
+                row.creationDate(),
+                calculateDueAmount(row.chargeTotalAmount(), payments),
+                payments
+        );
+    }
+
+    private BigDecimal calculateDueAmount(BigDecimal totalAmount, List<PaymentResponseDTO> payments) {
+        if (totalAmount == null) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal totalPaid = payments.stream()
+                .map(PaymentResponseDTO::getPaidAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        BigDecimal dueAmount = totalAmount.subtract(totalPaid);
+
+        return dueAmount.compareTo(BigDecimal.ZERO) > 0 ? dueAmount : BigDecimal.ZERO;
+    }
+}
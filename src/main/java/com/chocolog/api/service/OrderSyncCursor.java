@@ -0,0 +1,50 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.repository.SyncPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque sync position of a client: the last {@code (updated_at, id)} it received from each synced table.
+ */
+record OrderSyncCursor(SyncPosition orders, SyncPosition orderItems, SyncPosition charges, SyncPosition payments) {
+
+    static final OrderSyncCursor START = new OrderSyncCursor(SyncPosition.START, SyncPosition.START, SyncPosition.START, SyncPosition.START);
+
+    private static final String TABLE_SEPARATOR = ";";
+    private static final String FIELD_SEPARATOR = ",";
+
+    String encode() {
+        String raw = String.join(TABLE_SEPARATOR, encode(orders), encode(orderItems), encode(charges), encode(payments));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static OrderSyncCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tables = raw.split(TABLE_SEPARATOR, -1);
+            if (tables.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            return new OrderSyncCursor(decodePosition(tables[0]), decodePosition(tables[1]),
+                    decodePosition(tables[2]), decodePosition(tables[3]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+
+    private static String encode(SyncPosition position) {
+        return position.updatedAt() + FIELD_SEPARATOR + position.id();
+    }
+
+    private static SyncPosition decodePosition(String value) {
+        String[] parts = value.split(FIELD_SEPARATOR, -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+        return new SyncPosition(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+    }
+}
@@ -0,0 +1,90 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.sync.*;
+import com.chocolog.api.repository.OrderSyncRepository;
+import com.chocolog.api.repository.SyncPosition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+@Service
+public class OrderSyncService {
+
+    private static final int DEFAULT_PAGE_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final OrderSyncRepository orderSyncRepository;
+    private final WriteTransactionTracker writeTransactionTracker;
+
+    @Value("${chocolog.sync.settle-ms:2000}")
+    private long settleMillis;
+
+    /**
+     * Returns up to {@code size} rows per table changed after the cursor, including soft-deleted ones. Rows are
+     * stamped on the database clock when written but only become visible at commit, so the page stops before the
+     * oldest read-write transaction still open; {@code chocolog.sync.settle-ms} is kept as a margin for the stamp
+     * precision and for the offset between the JVM and database clocks.
+     */
+    @Transactional(readOnly = true)
+    public SyncResponseDTO findChangesSince(String cursor, Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        OrderSyncCursor from = cursor != null ? OrderSyncCursor.decode(cursor) : OrderSyncCursor.START;
+        LocalDateTime until = settledUntil();
+
+        List<SyncOrderDTO> orders = orderSyncRepository.findOrdersChangedAfter(from.orders(), until, pageSize + 1);
+        List<SyncOrderItemDTO> orderItems = orderSyncRepository.findOrderItemsChangedAfter(from.orderItems(), until, pageSize + 1);
+        List<SyncChargeDTO> charges = orderSyncRepository.findChargesChangedAfter(from.charges(), until, pageSize + 1);
+        List<SyncPaymentDTO> payments = orderSyncRepository.findPaymentsChangedAfter(from.payments(), until, pageSize + 1);
+
+        boolean hasMore = orders.size() > pageSize || orderItems.size() > pageSize
+                || charges.size() > pageSize || payments.size() > pageSize;
+
+        orders = page(orders, pageSize);
+        orderItems = page(orderItems, pageSize);
+        charges = page(charges, pageSize);
+        payments = page(payments, pageSize);
+
+        OrderSyncCursor next = new OrderSyncCursor(
+                advance(from.orders(), orders, SyncOrderDTO::getUpdatedAt, SyncOrderDTO::getId),
+                advance(from.orderItems(), orderItems, SyncOrderItemDTO::getUpdatedAt, SyncOrderItemDTO::getId),
+                advance(from.charges(), charges, SyncChargeDTO::getUpdatedAt, SyncChargeDTO::getId),
+                advance(from.payments(), payments, SyncPaymentDTO::getUpdatedAt, SyncPaymentDTO::getId)
+        );
+
+        return new SyncResponseDTO(orders, orderItems, charges, payments, next.encode(), hasMore);
+    }
+
+    private LocalDateTime settledUntil() {
+        LocalDateTime databaseNow = orderSyncRepository.currentTimestamp();
+        Duration clockOffset = Duration.between(LocalDateTime.now(), databaseNow);
+        LocalDateTime until = writeTransactionTracker.oldestOpenSince()
+                .map(openSince -> openSince.plus(clockOffset))
+                .filter(openSince -> openSince.isBefore(databaseNow))
+                .orElse(databaseNow);
+        return until.minus(settleMillis, ChronoUnit.MILLIS);
+    }
+
+    private <T> List<T> page(List<T> rows, int pageSize) {
+        return rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    }
+
+    private <T> SyncPosition advance(SyncPosition current, List<T> rows,
+                                     Function<T, LocalDateTime> updatedAt, Function<T, Long> id) {
+        if (rows.isEmpty()) {
+            return current;
+        }
+        T last = rows.get(rows.size() - 1);
+        return new SyncPosition(updatedAt.apply(last), id.apply(last));
+    }
+}
@@ -15,6 +15,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
@@ -25,6 +28,8 @@ public class PaymentService {
     private final OrderRepository orderRepository;
     private final EmployeeRepository employeeRepository;
     private final PaymentMapper paymentMapper;
+    private final DailySalesRollupService dailySalesRollupService;
+    private final ReportCache reportCache;
 
     @Transactional
     public PaymentResponseDTO addPayment(Long customerId, Long orderId, Long employeeId, PaymentRequestDTO paymentDTO) {
@@ -44,8 +49,10 @@ public class PaymentService {
         payment.setPaymentDate(paymentDTO.getPaymentDate());
         Payment savedPayment = paymentRepository.save(payment);
 
-        charge.getPayments().add(savedPayment);
+        chargeRepository.addToPaidAmount(charge.getId(), savedPayment.getPaidAmount());
         updateChargeStatus(charge);
+        dailySalesRollupService.markOrderChanged(orderId);
+        evictReportsForPaymentDates(savedPayment.getPaymentDate());
 
         return paymentMapper.toResponseDTO(savedPayment);
     }
@@ -54,8 +61,11 @@ public class PaymentService {
     public PaymentResponseDTO updatePayment(Long customerId, Long orderId, Long paymentId, PaymentPatchRequestDTO paymentDTO) {
         Charge charge = findChargeOrFail(orderId, customerId);
         Payment payment = findPaymentOrFail(paymentId, charge.getId());
+        LocalDateTime originalPaymentDate = payment.getPaymentDate();
 
         if (paymentDTO.getPaidAmount() != null) {
+            BigDecimal delta = paymentDTO.getPaidAmount().subtract(payment.getPaidAmount());
+            chargeRepository.addToPaidAmount(charge.getId(), delta);
             payment.setPaidAmount(paymentDTO.getPaidAmount());
         }
         if (paymentDTO.getPaymentMethod() != null) {
@@ -67,6 +77,8 @@ public class PaymentService {
 
         Payment updatedPayment = paymentRepository.save(payment);
         updateChargeStatus(charge);
+        dailySalesRollupService.markOrderChanged(orderId);
+        evictReportsForPaymentDates(originalPaymentDate, updatedPayment.getPaymentDate());
 
         return paymentMapper.toResponseDTO(updatedPayment);
     }
@@ -77,27 +89,32 @@ public class PaymentService {
         Payment payment = findPaymentOrFail(paymentId, charge.getId());
 
         paymentRepository.delete(payment);
-        charge.getPayments().remove(payment);
+        chargeRepository.addToPaidAmount(charge.getId(), payment.getPaidAmount().negate());
 
         updateChargeStatus(charge);
+        dailySalesRollupService.markOrderChanged(orderId);
+        evictReportsForPaymentDates(payment.getPaymentDate());
     }
 
+    /**
+     * Re-derives the charge status from the paid total currently stored for it. The row is locked while reading, so
+     * a payment committing in between cannot leave the status out of step with the amount.
+     */
     public void updateChargeStatus(Charge charge) {
-        BigDecimal totalPaid = charge.getPayments().stream()
-                .map(Payment::getPaidAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        if (totalPaid.compareTo(charge.getTotalAmount()) >= 0) {
-            charge.setStatus(ChargeStatus.PAID);
-        } else if (totalPaid.compareTo(BigDecimal.ZERO) > 0) {
-            charge.setStatus(ChargeStatus.PARTIAL);
-        } else {
-            charge.setStatus(ChargeStatus.UNPAID);
-        }
+        charge.setPaidAmount(chargeRepository.lockPaidAmount(charge.getId()));
+        charge.setStatus(OrderAggregateRecalculator.resolveChargeStatus(charge.getPaidAmount(), charge.getTotalAmount()));
 
         chargeRepository.save(charge);
     }
 
+    private void evictReportsForPaymentDates(LocalDateTime... paymentDates) {
+        reportCache.evictDaysAfterCommit(Arrays.stream(paymentDates)
+                .filter(Objects::nonNull)
+                .map(LocalDateTime::toLocalDate)
+                .distinct()
+                .toList());
+    }
+
     private Charge findChargeOrFail(Long orderId, Long customerId) {
         Order order = orderRepository.findByIdAndCustomerId(orderId, customerId)
                 .orElseThrow(() -> new EntityNotFoundException("Order not found for id: " + orderId + " and customer id: " + customerId));
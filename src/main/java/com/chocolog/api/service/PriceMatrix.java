@@ -0,0 +1,153 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.repository.ProductPriceRepository;
+import com.chocolog.api.repository.SalePriceRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sale prices of every flavor and size, in cents, held in an immutable snapshot that is swapped atomically.
+ * Flavor and size ids are mapped to dense indices by binary search over sorted id arrays, so a lookup neither
+ * allocates nor touches the database. Price changes invalidate the snapshot after their transaction commits; a
+ * TTL bounds how long a node can keep prices changed on another node.
+ */
+@Slf4j
+@Component
+public class PriceMatrix {
+
+    public static final long NO_PRICE = -1L;
+
+    private final ProductPriceRepository productPriceRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer rebuildTimer;
+
+    @Value("${chocolog.prices.matrix-ttl-ms:600000}")
+    private long ttlMillis;
+
+    public PriceMatrix(ProductPriceRepository productPriceRepository, MeterRegistry meterRegistry) {
+        this.productPriceRepository = productPriceRepository;
+        this.hits = Counter.builder("chocolog.prices.matrix.lookups")
+                .description("Price lookups served by the current price matrix snapshot")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("chocolog.prices.matrix.lookups")
+                .description("Price lookups that had to rebuild the price matrix snapshot")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("chocolog.prices.matrix.rebuild")
+                .description("Time to load all sale prices and build a price matrix snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the sale price in cents, or {@link #NO_PRICE} when the flavor and size have no price.
+     */
+    public long findSalePriceCents(long flavorId, long sizeId) {
+        return currentSnapshot().find(flavorId, sizeId);
+    }
+
+    /**
+     * Drops the snapshot once the current transaction commits, or right away outside a transaction.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict();
+            }
+        });
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot.get();
+        if (isUsable(current)) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+        return rebuild();
+    }
+
+    private synchronized Snapshot rebuild() {
+        Snapshot current = snapshot.get();
+        if (isUsable(current)) {
+            return current;
+        }
+
+        long buildGeneration = generation.get();
+        Snapshot built = rebuildTimer.record(() -> Snapshot.of(productPriceRepository.findAllSalePrices(), buildGeneration));
+        snapshot.set(built);
+        log.debug("Price matrix rebuilt with {} flavors and {} sizes.", built.flavorIds.length, built.sizeIds.length);
+        return built;
+    }
+
+    private boolean isUsable(Snapshot current) {
+        return current != null
+                && current.generation == generation.get()
+                && System.currentTimeMillis() - current.builtAt <= ttlMillis;
+    }
+
+    private static final class Snapshot {
+
+        private final long[] flavorIds;
+        private final long[] sizeIds;
+        private final long[] cents;
+        private final long generation;
+        private final long builtAt;
+
+        private Snapshot(long[] flavorIds, long[] sizeIds, long[] cents, long generation) {
+            this.flavorIds = flavorIds;
+            this.sizeIds = sizeIds;
+            this.cents = cents;
+            this.generation = generation;
+            this.builtAt = System.currentTimeMillis();
+        }
+
+        static Snapshot of(List<SalePriceRow> rows, long generation) {
+            long[] flavorIds = rows.stream().mapToLong(SalePriceRow::flavorId).distinct().sorted().toArray();
+            long[] sizeIds = rows.stream().mapToLong(SalePriceRow::sizeId).distinct().sorted().toArray();
+            long[] cents = new long[flavorIds.length * sizeIds.length];
+            Arrays.fill(cents, NO_PRICE);
+
+            for (SalePriceRow row : rows) {
+                int index = Arrays.binarySearch(flavorIds, row.flavorId()) * sizeIds.length
+                        + Arrays.binarySearch(sizeIds, row.sizeId());
+                cents[index] = row.salePrice().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            }
+            return new Snapshot(flavorIds, sizeIds, cents, generation);
+        }
+
+        long find(long flavorId, long sizeId) {
+            int flavorIndex = Arrays.binarySearch(flavorIds, flavorId);
+            int sizeIndex = Arrays.binarySearch(sizeIds, sizeId);
+            if (flavorIndex < 0 || sizeIndex < 0) {
+                return NO_PRICE;
+            }
+            return cents[flavorIndex * sizeIds.length + sizeIndex];
+        }
+    }
+}
@@ -14,10 +14,11 @@ import com.chocolog.api.repository.PrintBatchItemRepository;
 import com.chocolog.api.repository.PrintBatchRepository;
 
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -26,7 +27,6 @@ import java.util.AbstractMap;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class PrintBatchService {
 
     private final PrintBatchRepository printBatchRepository;
@@ -36,6 +36,24 @@ public class PrintBatchService {
     private final FileStorageService fileStorageService;
     private final PdfGenerationService pdfGenerationService;
     private final PrintBatchMapper printBatchMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public PrintBatchService(PrintBatchRepository printBatchRepository, PrintBatchItemRepository printBatchItemRepository,
+                             EmployeeRepository employeeRepository, OrderItemRepository orderItemRepository,
+                             FileStorageService fileStorageService, PdfGenerationService pdfGenerationService,
+                             PrintBatchMapper printBatchMapper, ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager) {
+        this.printBatchRepository = printBatchRepository;
+        this.printBatchItemRepository = printBatchItemRepository;
+        this.employeeRepository = employeeRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.fileStorageService = fileStorageService;
+        this.pdfGenerationService = pdfGenerationService;
+        this.printBatchMapper = printBatchMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     public List<PrintBatchListResponseDTO> findAll() {
         return printBatchRepository.findAllWithEmployee().stream()
@@ -49,8 +67,17 @@ public class PrintBatchService {
         return printBatchMapper.toDetailResponseDTO(batch);
     }
 
-    @Transactional
+    /**
+     * Creates the batch and marks its items printed in one short transaction, then renders the PDF once that has
+     * committed, so the rows stamped by {@code markPrinted} are not held invisible while the file is generated.
+     */
     public PrintBatchDetailResponseDTO save(PrintBatchRequestDTO requestDTO, Long employeeId) {
+        Long batchId = transactionTemplate.execute(status -> createBatch(requestDTO, employeeId));
+        generateAndStorePdf(batchId);
+        return findById(batchId);
+    }
+
+    private Long createBatch(PrintBatchRequestDTO requestDTO, Long employeeId) {
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found for id: " + employeeId));
 
@@ -73,13 +100,13 @@ public class PrintBatchService {
         List<PrintBatchItem> savedItems = printBatchItemRepository.saveAllAndFlush(batchItems);
         savedBatch.setItems(savedItems);
 
-        try {
-            generateAndStorePdf(savedBatch.getId());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to process batch", e);
+        List<Long> orderItemIds = orderItems.stream().map(OrderItem::getId).toList();
+        if (!orderItemIds.isEmpty()) {
+            orderItemRepository.markPrinted(orderItemIds);
         }
+        eventPublisher.publishEvent(OrderChangeEvent.ofPrintBatch(savedBatch.getId(), orderItemIds));
 
-        return findById(savedBatch.getId());
+        return savedBatch.getId();
     }
 
     public void generateAndStorePdf(Long batchId) {
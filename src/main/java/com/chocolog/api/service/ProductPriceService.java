@@ -16,22 +16,33 @@ import java.math.RoundingMode;
 public class ProductPriceService {
 
     private final ProductPriceRepository productPriceRepository;
+    private final PriceMatrix priceMatrix;
 
     public BigDecimal calculateUnitPrice(Size size, Flavor flavor1, Flavor flavor2) {
-        ProductPrice price1 = findPriceOrFail(flavor1, size);
+        BigDecimal price1 = findSalePriceOrFail(flavor1, size);
+        BigDecimal price2 = flavor2 != null ? findSalePriceOrFail(flavor2, size) : null;
+        return combineUnitPrice(price1, price2);
+    }
 
-        if (flavor2 != null) {
-            ProductPrice price2 = findPriceOrFail(flavor2, size);
-            return price1.getSalePrice()
-                    .add(price2.getSalePrice())
+    private static BigDecimal combineUnitPrice(BigDecimal price1, BigDecimal price2) {
+        if (price2 != null) {
+            return price1
+                    .add(price2)
                     .divide(BigDecimal.valueOf(2), 2, RoundingMode.HALF_UP);
         }
 
-        return price1.getSalePrice();
+        return price1;
     }
 
-    private ProductPrice findPriceOrFail(Flavor flavor, Size size) {
+    private BigDecimal findSalePriceOrFail(Flavor flavor, Size size) {
+        long cents = priceMatrix.findSalePriceCents(flavor.getId(), size.getId());
+        if (cents != PriceMatrix.NO_PRICE) {
+            return BigDecimal.valueOf(cents, 2);
+        }
+
+        // Not in the snapshot: the price may have been created on another node since it was built.
         return productPriceRepository.findByFlavorAndSize(flavor, size)
+                .map(ProductPrice::getSalePrice)
                 .orElseThrow(() -> new EntityNotFoundException("Price not found for flavor id: " + flavor.getId() + " and size id: " + size.getId()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.chocolog.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position of a production board page: the expected pickup date and id of the last item. Items without
+ * an expected pickup date are encoded with an empty date.
+ */
+record ProductionBoardCursor(LocalDateTime pickupDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = (pickupDate != null ? pickupDate.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProductionBoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            LocalDateTime pickupDate = parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]);
+            return new ProductionBoardCursor(pickupDate, Long.valueOf(parts[1]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.ProductionPlanResponseDTO;
+import com.chocolog.api.repository.OrderItemRepository;
+import com.chocolog.api.repository.ProductionPlanRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Pending on-demand quantities per pickup day, size and flavor pair, minus the stock still free for single-flavor
+ * items. The SQL totals are cached per pickup day: item changes evict only their day, order changes (which may move
+ * the pickup date) evict everything, and stock is read live from the ledger so stock changes need no eviction.
+ */
+@RequiredArgsConstructor
+@Service
+public class ProductionPlanningService {
+
+    private static final int MAX_RANGE_DAYS = 62;
+
+    private final OrderItemRepository orderItemRepository;
+    private final StockReservationLedger stockReservationLedger;
+
+    private final Map<LocalDate, CachedDay> cachedDays = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${chocolog.planning.cache-ttl-ms:300000}")
+    private long cacheTtlMillis;
+
+    @Transactional(readOnly = true)
+    public List<ProductionPlanResponseDTO> findPlan(LocalDate from, LocalDate to) {
+        LocalDate startDate = from != null ? from : LocalDate.now();
+        LocalDate endDate = to != null ? to : startDate.plusDays(13);
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Planning range must be at most " + MAX_RANGE_DAYS + " days.");
+        }
+
+        return allocateStock(findRows(startDate, endDate));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChange(OrderChangeEvent event) {
+        switch (event.type()) {
+            case ORDER_CREATED, ORDER_ITEM_CREATED, ORDER_ITEM_UPDATED, ORDER_ITEM_DELETED -> {
+                if (event.expectedPickupDate() != null) {
+                    generation.incrementAndGet();
+                    cachedDays.remove(event.expectedPickupDate().toLocalDate());
+                }
+            }
+            case ORDER_UPDATED -> {
+                generation.incrementAndGet();
+                cachedDays.clear();
+            }
+            default -> {
+            }
+        }
+    }
+
+    private List<ProductionPlanRow> findRows(LocalDate startDate, LocalDate endDate) {
+        long now = System.currentTimeMillis();
+        cachedDays.values().removeIf(cached -> now - cached.loadedAt() > cacheTtlMillis);
+
+        List<LocalDate> days = startDate.datesUntil(endDate.plusDays(1)).toList();
+        Map<LocalDate, List<ProductionPlanRow>> rowsByDay = new HashMap<>();
+        List<LocalDate> missingDays = new ArrayList<>();
+        for (LocalDate day : days) {
+            CachedDay cached = cachedDays.get(day);
+            if (cached != null) {
+                rowsByDay.put(day, cached.rows());
+            } else {
+                missingDays.add(day);
+            }
+        }
+
+        if (!missingDays.isEmpty()) {
+            long loadedGeneration = generation.get();
+            LocalDate firstMissing = missingDays.get(0);
+            LocalDate lastMissing = missingDays.get(missingDays.size() - 1);
+            Map<LocalDate, List<ProductionPlanRow>> loadedRows = orderItemRepository
+                    .sumPendingOnDemandQuantities(firstMissing.atStartOfDay(), lastMissing.atTime(LocalTime.MAX)).stream()
+                    .collect(Collectors.groupingBy(ProductionPlanRow::pickupDate));
+
+            // Rows read while an order changed may be stale, so they answer this request but are not cached. The
+            // generation is checked inside compute: an eviction bumps it before removing the day, so it either
+            // stops the put or removes the entry right after it.
+            for (LocalDate day : missingDays) {
+                List<ProductionPlanRow> dayRows = loadedRows.getOrDefault(day, List.of());
+                rowsByDay.put(day, dayRows);
+                cachedDays.compute(day, (d, cached) -> cached == null && generation.get() == loadedGeneration
+                        ? new CachedDay(dayRows, now)
+                        : cached);
+            }
+        }
+
+        return days.stream()
+                .flatMap(day -> rowsByDay.get(day).stream())
+                .toList();
+    }
+
+    private List<ProductionPlanResponseDTO> allocateStock(List<ProductionPlanRow> rows) {
+        stockReservationLedger.preload(
+                rows.stream().map(ProductionPlanRow::flavor1Id).collect(Collectors.toSet()),
+                rows.stream().map(ProductionPlanRow::sizeId).collect(Collectors.toSet()));
+
+        Map<List<Long>, Integer> freeStock = new HashMap<>();
+        List<ProductionPlanResponseDTO> plan = new ArrayList<>(rows.size());
+        for (ProductionPlanRow row : rows) {
+            int pending = row.quantity().intValue();
+            Integer available = null;
+            int toProduce = pending;
+
+            if (row.flavor2Id() == null) {
+                List<Long> key = List.of(row.flavor1Id(), row.sizeId());
+                available = freeStock.computeIfAbsent(key, k -> Math.max(0,
+                        stockReservationLedger.findAvailable(row.flavor1Id(), row.sizeId()).orElse(0)));
+                int used = Math.min(available, pending);
+                freeStock.put(key, available - used);
+                toProduce = pending - used;
+            }
+
+            plan.add(new ProductionPlanResponseDTO(row.pickupDate(), row.sizeId(), row.sizeName(),
+                    row.flavor1Id(), row.flavor1Name(), row.flavor2Id(), row.flavor2Name(),
+                    pending, available, toProduce));
+        }
+        return plan;
+    }
+
+    private record CachedDay(List<ProductionPlanRow> rows, long loadedAt) {
+    }
+}
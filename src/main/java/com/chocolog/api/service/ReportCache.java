@@ -0,0 +1,157 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.reports.ReportsDTO;
+import com.chocolog.api.model.PeriodType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU of dashboard reports keyed by period and grouping. A change to the orders created, or payments made,
+ * on a day evicts only the cached periods containing that day; other periods keep being served from memory. A
+ * report computed while an eviction happened is returned but not cached, so it cannot outlive the change it missed.
+ * Hits, misses and evictions are published as {@code chocolog.reports.cache.*} metrics.
+ */
+@Component
+public class ReportCache {
+
+    private final Map<Key, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter invalidations;
+    private final Counter expirations;
+    private final long ttlMillis;
+
+    public ReportCache(MeterRegistry meterRegistry,
+                       @Value("${chocolog.reports.cache-size:100}") int cacheSize,
+                       @Value("${chocolog.reports.cache-ttl-ms:3600000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.hits = Counter.builder("chocolog.reports.cache.requests")
+                .description("Dashboard reports served from the report cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("chocolog.reports.cache.requests")
+                .description("Dashboard reports that had to be computed")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.sizeEvictions = evictionCounter(meterRegistry, "size");
+        this.invalidations = evictionCounter(meterRegistry, "invalidated");
+        this.expirations = evictionCounter(meterRegistry, "expired");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > cacheSize) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder("chocolog.reports.cache.size", this, ReportCache::size)
+                .description("Dashboard reports currently cached")
+                .register(meterRegistry);
+    }
+
+    public ReportsDTO get(LocalDateTime startDate, LocalDateTime endDate, PeriodType periodType, Supplier<ReportsDTO> loader) {
+        Key key = new Key(startDate, endDate, periodType);
+        long loadGeneration;
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && System.currentTimeMillis() - cached.cachedAt() <= ttlMillis) {
+                hits.increment();
+                return cached.report();
+            }
+            if (cached != null) {
+                entries.remove(key);
+                expirations.increment();
+            }
+            loadGeneration = generation.get();
+        }
+
+        misses.increment();
+        ReportsDTO report = loader.get();
+        synchronized (this) {
+            if (generation.get() == loadGeneration) {
+                entries.put(key, new Entry(report, System.currentTimeMillis()));
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Evicts every cached period containing one of the days.
+     */
+    public synchronized void evictDays(Collection<LocalDate> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> {
+            boolean touched = days.stream().anyMatch(key::contains);
+            if (touched) {
+                invalidations.increment();
+            }
+            return touched;
+        });
+    }
+
+    /**
+     * Evicts the periods containing the days once the current transaction commits, or right away outside a
+     * transaction.
+     */
+    public void evictDaysAfterCommit(Collection<LocalDate> days) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictDays(days);
+            return;
+        }
+        List<LocalDate> touchedDays = List.copyOf(days);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictDays(touchedDays);
+            }
+        });
+    }
+
+    public synchronized void evictAll() {
+        generation.incrementAndGet();
+        invalidations.increment(entries.size());
+        entries.clear();
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("chocolog.reports.cache.evictions")
+                .description("Dashboard reports removed from the report cache")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private record Key(LocalDateTime startDate, LocalDateTime endDate, PeriodType periodType) {
+
+        boolean contains(LocalDate day) {
+            return !day.isBefore(startDate.toLocalDate()) && !day.isAfter(endDate.toLocalDate());
+        }
+    }
+
+    private record Entry(ReportsDTO report, long cachedAt) {
+    }
+}
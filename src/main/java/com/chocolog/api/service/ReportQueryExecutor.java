@@ -0,0 +1,111 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.exception.ReportUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent report queries concurrently on a small fixed pool, each in its own read-only transaction.
+ * The pool is deliberately smaller than the connection pool so a dashboard never holds every connection
+ * order entry needs; a full queue rejects the report instead of piling up. Every query has a timeout, which is
+ * also handed to the transaction so the database cancels the statement, and its duration is recorded as
+ * {@code chocolog.reports.query}. Rejections and timeouts surface as {@link ReportUnavailableException}.
+ */
+@Slf4j
+@Component
+public class ReportQueryExecutor {
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 16;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public ReportQueryExecutor(PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${chocolog.reports.query-threads:4}") int threads,
+                               @Value("${chocolog.reports.query-timeout-ms:10000}") long timeoutMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis)));
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-query-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public <T> CompletableFuture<T> submit(String queryName, Supplier<T> query) {
+        Timer timer = Timer.builder("chocolog.reports.query")
+                .description("Time to run one dashboard report query")
+                .tag("query", queryName)
+                .register(meterRegistry);
+        try {
+            return CompletableFuture
+                    .supplyAsync(() -> timer.record(() -> transactionTemplate.execute(status -> query.get())), executor)
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        throw translate(queryName, e);
+                    });
+        } catch (RejectedExecutionException e) {
+            throw new ReportUnavailableException(ReportUnavailableException.Reason.BUSY,
+                    "Too many reports are running. Please try again shortly.", retryAfterSeconds(), e);
+        }
+    }
+
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private RuntimeException translate(String queryName, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            log.warn("Report query {} timed out after {} ms.", queryName, timeoutMillis);
+            return new ReportUnavailableException(ReportUnavailableException.Reason.TIMED_OUT,
+                    "Report query " + queryName + " timed out after " + timeoutMillis + " ms.", retryAfterSeconds(), cause);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("Report query " + queryName + " failed.", cause);
+    }
+
+    private long retryAfterSeconds() {
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis));
+    }
+}
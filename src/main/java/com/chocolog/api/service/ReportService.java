@@ -9,77 +9,94 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 @Service
 public class ReportService {
 
-    private final OrderItemRepository orderItemRepository;
-    private final ChargeRepository chargeRepository;
     private final PaymentRepository paymentRepository;
     private final ReportRepository reportRepository;
+    private final ReportQueryExecutor reportQueryExecutor;
+    private final ReportCache reportCache;
 
     public ReportsDTO getDashboardReports(LocalDateTime startDate, LocalDateTime endDate, PeriodType periodType) {
+        return reportCache.get(startDate, endDate, periodType, () -> buildDashboardReports(startDate, endDate, periodType));
+    }
+
+    private ReportsDTO buildDashboardReports(LocalDateTime startDate, LocalDateTime endDate, PeriodType periodType) {
         String start = startDate.toString();
         String end = endDate.toString();
 
-        KpisDTO kpis = calculateKpis(startDate, endDate);
-        List<OrdersByStatusDTO> ordersByStatus = reportRepository.getOrdersCountByStatus(startDate, endDate);
-        List<TotalByFlavorAndSizeDTO> totalByFlavorAndSize = reportRepository.getTotalByFlavorAndSize(startDate, endDate);
-        List<OnDemandVsStockDTO> onDemandVsStock = reportRepository.getOnDemandVsStock(startDate, endDate);
+        CompletableFuture<Integer> totalSold = reportQueryExecutor.submit("totalSold",
+                () -> reportRepository.sumSoldQuantity(startDate, endDate));
+        CompletableFuture<BigDecimal> totalRevenue = reportQueryExecutor.submit("totalRevenue",
+                () -> reportRepository.sumChargedAmount(startDate, endDate));
+        CompletableFuture<BigDecimal> totalReceived = reportQueryExecutor.submit("totalReceived",
+                () -> paymentRepository.sumPaidAmount(startDate, endDate));
+        CompletableFuture<BigDecimal> estimatedProfit = reportQueryExecutor.submit("estimatedProfit",
+                () -> reportRepository.calculateEstimatedProfit(startDate, endDate));
+        CompletableFuture<List<OrdersByStatusDTO>> ordersByStatus = reportQueryExecutor.submit("ordersByStatus",
+                () -> reportRepository.getOrdersCountByStatus(startDate, endDate));
+        CompletableFuture<List<TotalByFlavorAndSizeDTO>> totalByFlavorAndSize = reportQueryExecutor.submit("totalByFlavorAndSize",
+                () -> reportRepository.getTotalByFlavorAndSize(startDate, endDate));
+        CompletableFuture<List<OnDemandVsStockDTO>> onDemandVsStock = reportQueryExecutor.submit("onDemandVsStock",
+                () -> reportRepository.getOnDemandVsStock(startDate, endDate));
+        CompletableFuture<List<SalesByPeriodDTO>> salesByPeriod = reportQueryExecutor.submit("salesByPeriod",
+                () -> getSalesByPeriod(startDate, endDate, periodType));
+        CompletableFuture<List<RevenueVsReceivedDTO>> revenueVsReceived = reportQueryExecutor.submit("revenueVsReceived",
+                () -> getRevenueVsReceived(startDate, endDate, periodType));
+        CompletableFuture<List<ReceivedByPaymentMethodDTO>> receivedByPaymentMethod = reportQueryExecutor.submit("receivedByPaymentMethod",
+                () -> reportRepository.getReceivedByPaymentMethod(startDate, endDate));
+
+        KpisDTO kpis = buildKpis(
+                reportQueryExecutor.await(totalSold),
+                reportQueryExecutor.await(totalRevenue),
+                reportQueryExecutor.await(totalReceived),
+                reportQueryExecutor.await(estimatedProfit));
+
+        FinancialsDTO financials = FinancialsDTO.builder()
+                .revenueVsReceivedByPeriod(reportQueryExecutor.await(revenueVsReceived))
+                .receivedByPaymentMethod(reportQueryExecutor.await(receivedByPaymentMethod))
+                .build();
+
+        return ReportsDTO.builder()
+                .periodStart(start)
+                .periodEnd(end)
+                .kpis(kpis)
+                .salesByPeriod(reportQueryExecutor.await(salesByPeriod))
+                .ordersByStatus(reportQueryExecutor.await(ordersByStatus))
+                .totalByFlavorAndSize(reportQueryExecutor.await(totalByFlavorAndSize))
+                .onDemandVsStock(reportQueryExecutor.await(onDemandVsStock))
+                .financials(financials)
+                .build();
+    }
 
-        List<SalesByPeriodDTO> salesByPeriod;
+    private List<SalesByPeriodDTO> getSalesByPeriod(LocalDateTime startDate, LocalDateTime endDate, PeriodType periodType) {
         switch (periodType) {
             case DAY:
-                salesByPeriod = reportRepository.getSalesByDay(startDate, endDate);
-                break;
+                return reportRepository.getSalesByDay(startDate, endDate);
             case MONTH:
-                salesByPeriod = reportRepository.getSalesByMonth(startDate, endDate);
-                break;
+                return reportRepository.getSalesByMonth(startDate, endDate);
             case WEEK:
             default:
-                salesByPeriod = reportRepository.getSalesByWeek(startDate, endDate);
-                break;
+                return reportRepository.getSalesByWeek(startDate, endDate);
         }
+    }
 
-        List<RevenueVsReceivedDTO> revenueVsReceived;
+    private List<RevenueVsReceivedDTO> getRevenueVsReceived(LocalDateTime startDate, LocalDateTime endDate, PeriodType periodType) {
         switch (periodType) {
             case DAY:
-                revenueVsReceived = reportRepository.getRevenueVsReceivedByDay(startDate, endDate);
-                break;
+                return reportRepository.getRevenueVsReceivedByDay(startDate, endDate);
             case MONTH:
-                revenueVsReceived = reportRepository.getRevenueVsReceivedByMonth(startDate, endDate);
-                break;
+                return reportRepository.getRevenueVsReceivedByMonth(startDate, endDate);
             case WEEK:
             default:
-                revenueVsReceived = reportRepository.getRevenueVsReceivedByWeek(startDate, endDate);
-                break;
+                return reportRepository.getRevenueVsReceivedByWeek(startDate, endDate);
         }
-
-        FinancialsDTO financials = FinancialsDTO.builder()
-                .revenueVsReceivedByPeriod(revenueVsReceived)
-                .receivedByPaymentMethod(reportRepository.getReceivedByPaymentMethod(startDate, endDate))
-                .build();
-
-        return ReportsDTO.builder()
-                .periodStart(start)
-                .periodEnd(end)
-                .kpis(kpis)
-                .salesByPeriod(salesByPeriod)
-                .ordersByStatus(ordersByStatus)
-                .totalByFlavorAndSize(totalByFlavorAndSize)
-                .onDemandVsStock(onDemandVsStock)
-                .financials(financials)
-                .build();
     }
 
-    private KpisDTO calculateKpis(LocalDateTime startDate, LocalDateTime endDate) {
-        Integer totalSold = orderItemRepository.sumQuantityForOrders(startDate, endDate);
-
-        BigDecimal totalRevenue = chargeRepository.sumTotalAmountForOrders(startDate, endDate);
-        BigDecimal totalReceived = paymentRepository.sumPaidAmount(startDate, endDate);
-        BigDecimal estimatedProfit = reportRepository.calculateEstimatedProfit(startDate, endDate);
-
+    private KpisDTO buildKpis(Integer totalSold, BigDecimal totalRevenue, BigDecimal totalReceived, BigDecimal estimatedProfit) {
         return KpisDTO.builder()
                 .totalSold(totalSold != null ? totalSold : 0)
                 .totalRevenue(totalRevenue != null ? totalRevenue : BigDecimal.ZERO)
@@ -15,6 +15,7 @@ import com.chocolog.api.repository.FlavorRepository;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime; 
@@ -26,10 +27,12 @@ import java.util.List;
 public class StockRecordService {
 
     private final StockRepository stockRepository;
+    private final StockReservationLedger stockReservationLedger;
     private final StockRecordRepository stockRecordRepository;
     private final FlavorRepository flavorRepository;
     private final SizeRepository sizeRepository;
     private final StockRecordMapper stockRecordMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<StockRecordResponseDTO> findAll() {
         return stockRecordRepository.findAll().stream()
@@ -45,31 +48,27 @@ public class StockRecordService {
         Size size = sizeRepository.findById(requestDTO.getSizeId())
                 .orElseThrow(() -> new EntityNotFoundException("Size not found with id: " + requestDTO.getSizeId()));
 
-        Stock stock = stockRepository.findByFlavorAndSize(flavor, size)
-                .orElseGet(() -> {
-                    Stock newStock = new Stock();
-                    newStock.setFlavor(flavor);
-                    newStock.setSize(size);
-                    newStock.setTotalQuantity(0);
-                    newStock.setRemainingQuantity(0);
-                    return newStock;
-                });
-
         StockMovement movementType = StockMovement.valueOf(requestDTO.getMovementType());
         Integer quantityChange = requestDTO.getQuantity(); 
 
         if (movementType == StockMovement.INBOUND) {
-            stock.setTotalQuantity(stock.getTotalQuantity() + quantityChange);
-            stock.setRemainingQuantity(stock.getRemainingQuantity() + quantityChange); 
+            int updatedRows = stockRepository.adjustTotal(flavor.getId(), size.getId(), quantityChange);
+            if (updatedRows == 0) {
+                Stock newStock = new Stock();
+                newStock.setFlavor(flavor);
+                newStock.setSize(size);
+                newStock.setTotalQuantity(quantityChange);
+                newStock.setRemainingQuantity(quantityChange);
+                stockRepository.save(newStock);
+            } else {
+                stockReservationLedger.release(flavor.getId(), size.getId(), quantityChange);
+            }
         } else {
-            if (stock.getTotalQuantity() < quantityChange) {
+            if (!stockReservationLedger.tryReserve(flavor.getId(), size.getId(), quantityChange)) {
                 throw new IllegalArgumentException("Insufficient stock for flavor: " + flavor.getName() + ", size: " + size.getName());
             }
-            stock.setTotalQuantity(stock.getTotalQuantity() - quantityChange);
-            stock.setRemainingQuantity(stock.getRemainingQuantity() - quantityChange); 
+            stockRepository.adjustTotal(flavor.getId(), size.getId(), -quantityChange);
         }
-        
-        stockRepository.save(stock);
 
         StockRecord stockRecord = stockRecordMapper.toEntity(requestDTO);
         stockRecord.setFlavor(flavor);
@@ -87,6 +86,7 @@ public class StockRecordService {
         }
         
         StockRecord savedStockRecord = stockRecordRepository.save(stockRecord);
+        eventPublisher.publishEvent(OrderChangeEvent.ofStock(flavor.getId(), size.getId()));
         return stockRecordMapper.toResponseDTO(savedStockRecord);
     }
 }
\ No newline at end of file
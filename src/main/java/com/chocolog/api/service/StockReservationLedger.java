@@ -0,0 +1,230 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.repository.StockRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remaining stock per flavor/size kept in lock-free counters and written behind to {@code stock}.
+ * On startup, before the application takes any request, the remaining quantities are rebuilt from the committed
+ * order items, so no counter holds a reservation yet when its baseline is set.
+ */
+@Slf4j
+@Component
+public class StockReservationLedger {
+
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<StockKey, StockCounter> counters = new ConcurrentHashMap<>();
+    private final Set<StockKey> absentKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicLong stockChanges = new AtomicLong();
+
+    public StockReservationLedger(StockRepository stockRepository, PlatformTransactionManager transactionManager) {
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean tryReserve(Long flavorId, Long sizeId, int quantity) {
+        StockKey key = new StockKey(flavorId, sizeId);
+        StockCounter counter = findCounter(key);
+        if (counter == null || !counter.tryTake(quantity)) {
+            return false;
+        }
+        compensateOnRollback(counter, quantity);
+        return true;
+    }
+
+    public void release(Long flavorId, Long sizeId, int quantity) {
+        StockKey key = new StockKey(flavorId, sizeId);
+        // Releasing means the caller just found or touched the stock row, so a cached absence is out of date.
+        absentKeys.remove(key);
+        StockCounter counter = findCounter(key);
+        if (counter == null) {
+            throw new IllegalStateException("Stock not found for flavor id: " + flavorId + " and size id: " + sizeId);
+        }
+        counter.apply(quantity);
+        compensateOnRollback(counter, -quantity);
+    }
+
+    public Optional<Integer> findAvailable(Long flavorId, Long sizeId) {
+        StockCounter counter = counters.get(new StockKey(flavorId, sizeId));
+        return counter != null ? Optional.of(counter.available.get()) : Optional.empty();
+    }
+
+    /**
+     * Loads the counters of every flavor/size pair not seen yet in one query. Pairs without a stock row are
+     * remembered as absent until a stock change for them commits, so they are not queried again on every order.
+     */
+    public void preload(Collection<Long> flavorIds, Collection<Long> sizeIds) {
+        List<StockKey> unresolved = flavorIds.stream()
+                .flatMap(flavorId -> sizeIds.stream().map(sizeId -> new StockKey(flavorId, sizeId)))
+                .filter(key -> !counters.containsKey(key) && !absentKeys.contains(key))
+                .toList();
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        long changesBefore = stockChanges.get();
+        Set<StockKey> found = new HashSet<>();
+        for (Object[] row : stockRepository.findRemainingQuantities(flavorIds, sizeIds)) {
+            int remaining = row[2] != null ? ((Number) row[2]).intValue() : 0;
+            StockKey key = new StockKey((Long) row[0], (Long) row[1]);
+            counters.computeIfAbsent(key, k -> new StockCounter(remaining));
+            found.add(key);
+        }
+        if (stockChanges.get() == changesBefore) {
+            unresolved.stream().filter(key -> !found.contains(key)).forEach(absentKeys::add);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChange(OrderChangeEvent event) {
+        if (event.type() == OrderChangeEvent.Type.STOCK_CHANGED) {
+            stockChanges.incrementAndGet();
+            absentKeys.remove(new StockKey(event.flavorId(), event.sizeId()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chocolog.stock.ledger.flush-interval-ms:500}")
+    public synchronized void flush() {
+        Map<StockKey, Integer> drained = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            int delta = counter.pendingDelta.getAndSet(0);
+            if (delta != 0) {
+                drained.put(key, delta);
+            }
+        });
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<StockKey> unmatched = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach((key, delta) -> {
+                if (stockRepository.adjustRemaining(key.flavorId(), key.sizeId(), delta) == 0) {
+                    unmatched.add(key);
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} stock deltas, they will be retried: {}", drained.size(), e.getMessage(), e);
+            drained.forEach((key, delta) -> counters.get(key).pendingDelta.addAndGet(delta));
+            return;
+        }
+
+        for (StockKey key : unmatched) {
+            log.warn("Stock row not found while flushing flavor id {} and size id {}, retrying later.", key.flavorId(), key.sizeId());
+            counters.get(key).pendingDelta.addAndGet(drained.get(key));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing stock reservation ledger before shutdown.");
+        flush();
+    }
+
+    /**
+     * Runs while the context is still starting, before the web server and the scheduled flush, so every counter is
+     * created here from the derived quantity with nothing reserved or pending against it.
+     */
+    @PostConstruct
+    public void reconcile() {
+        int corrected = transactionTemplate.execute(status -> {
+            int correctedRows = 0;
+            for (Object[] row : stockRepository.findRemainingAndDerivedQuantities()) {
+                Long stockId = (Long) row[0];
+                StockKey key = new StockKey((Long) row[1], (Long) row[2]);
+                int remaining = row[3] != null ? ((Number) row[3]).intValue() : 0;
+                int derived = row[4] != null ? ((Number) row[4]).intValue() : remaining;
+
+                if (remaining != derived) {
+                    stockRepository.setRemaining(stockId, derived);
+                    correctedRows++;
+                }
+                counters.put(key, new StockCounter(derived));
+                absentKeys.remove(key);
+            }
+            return correctedRows;
+        });
+        log.info("Stock reservation ledger reconciled {} stock rows, {} corrected from order items.", counters.size(), corrected);
+    }
+
+    private StockCounter findCounter(StockKey key) {
+        StockCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        if (absentKeys.contains(key)) {
+            return null;
+        }
+        return stockRepository.findRemainingQuantity(key.flavorId(), key.sizeId())
+                .map(remaining -> counters.computeIfAbsent(key, k -> new StockCounter(remaining)))
+                .orElse(null);
+    }
+
+    private void compensateOnRollback(StockCounter counter, int quantityDelta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    counter.apply(quantityDelta);
+                }
+            }
+        });
+    }
+
+    private record StockKey(Long flavorId, Long sizeId) {
+    }
+
+    private static final class StockCounter {
+
+        private final AtomicInteger available;
+        private final AtomicInteger pendingDelta = new AtomicInteger();
+
+        private StockCounter(int available) {
+            this.available = new AtomicInteger(available);
+        }
+
+        private boolean tryTake(int quantity) {
+            while (true) {
+                int current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    pendingDelta.addAndGet(-quantity);
+                    return true;
+                }
+            }
+        }
+
+        private void apply(int quantityDelta) {
+            available.addAndGet(quantityDelta);
+            pendingDelta.addAndGet(quantityDelta);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.chocolog.api.service;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each read-write transaction of this instance began, until it commits or rolls back. Rows it stamps
+ * become visible only at commit, so readers following {@code updated_at} must not move past the oldest one still open.
+ * Registered with the transaction manager as a {@link TransactionExecutionListener}.
+ */
+@Component
+public class WriteTransactionTracker implements TransactionExecutionListener {
+
+    private final Map<TransactionExecution, LocalDateTime> openTransactions = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        if (transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            openTransactions.put(transaction, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null) {
+            openTransactions.remove(transaction);
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        openTransactions.remove(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        openTransactions.remove(transaction);
+    }
+
+    /**
+     * Start time, on this JVM's clock, of the oldest read-write transaction still open.
+     */
+    public Optional<LocalDateTime> oldestOpenSince() {
+        return openTransactions.values().stream().min(LocalDateTime::compareTo);
+    }
+}
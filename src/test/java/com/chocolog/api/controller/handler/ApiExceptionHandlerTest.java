@@ -0,0 +1,50 @@
+package com.chocolog.api.controller.handler;
+
+import com.chocolog.api.exception.ReportUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários para ApiExceptionHandler")
+public class ApiExceptionHandlerTest {
+
+    private final ApiExceptionHandler handler = new ApiExceptionHandler();
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando os relatórios estão ocupados")
+    void handleReportUnavailable_ShouldReturnServiceUnavailableWithRetryAfter_WhenBusy() {
+        // Arrange
+        ReportUnavailableException ex = new ReportUnavailableException(ReportUnavailableException.Reason.BUSY,
+                "Too many reports are running. Please try again shortly.", 10, null);
+
+        // Act
+        ResponseEntity<Map<String, String>> response = handler.handleReportUnavailable(ex);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("10", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(ex.getMessage(), response.getBody().get("error"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 504 quando uma consulta de relatório excede o tempo limite")
+    void handleReportUnavailable_ShouldReturnGatewayTimeout_WhenTimedOut() {
+        // Arrange
+        ReportUnavailableException ex = new ReportUnavailableException(ReportUnavailableException.Reason.TIMED_OUT,
+                "Report query totalSold timed out after 10000 ms.", 10, null);
+
+        // Act
+        ResponseEntity<Map<String, String>> response = handler.handleReportUnavailable(ex);
+
+        // Assert
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(ex.getMessage(), response.getBody().get("error"));
+    }
+}
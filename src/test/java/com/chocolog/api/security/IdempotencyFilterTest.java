@@ -0,0 +1,122 @@
+package com.chocolog.api.security;
+
+import com.chocolog.api.model.IdempotencyRecord;
+import com.chocolog.api.repository.IdempotencyRecordRepository;
+import com.chocolog.api.service.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para IdempotencyFilter")
+public class IdempotencyFilterTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyFilter idempotencyFilter;
+
+    private final AtomicInteger chainCalls = new AtomicInteger();
+    private final FilterChain createOrder = (request, response) -> {
+        chainCalls.incrementAndGet();
+        ((HttpServletResponse) response).setStatus(201);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"id\":9}");
+    };
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore idempotencyStore = new IdempotencyStore(idempotencyRecordRepository, 10, 300);
+        idempotencyFilter = new IdempotencyFilter(idempotencyStore, new ObjectMapper());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve executar a requisição repetida quando a chave pendente foi abandonada além do prazo")
+    void doFilter_ShouldRunRetry_WhenPendingKeyLeaseExpired() throws Exception {
+        // Arrange
+        when(idempotencyRecordRepository.insertPending(eq("admin:k1"), anyString(), any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyRecordRepository.claimStalePending(eq("admin:k1"), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        idempotencyFilter.doFilter(orderRequest(), response, createOrder);
+
+        // Assert
+        assertEquals(1, chainCalls.get());
+        assertEquals(201, response.getStatus());
+        assertEquals("{\"id\":9}", response.getContentAsString());
+        verify(idempotencyRecordRepository).complete(eq("admin:k1"), eq(201), any(), any(), eq("{\"id\":9}"));
+        verify(idempotencyRecordRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Deve responder 409 sem executar a requisição quando a chave pendente ainda está no prazo")
+    void doFilter_ShouldReturnConflict_WhenPendingKeyIsStillLeased() throws Exception {
+        // Arrange
+        AtomicReference<String> requestHash = new AtomicReference<>();
+        when(idempotencyRecordRepository.insertPending(eq("admin:k1"), anyString(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    requestHash.set(invocation.getArgument(1));
+                    throw new DataIntegrityViolationException("duplicate");
+                });
+        when(idempotencyRecordRepository.claimStalePending(eq("admin:k1"), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(idempotencyRecordRepository.findById("admin:k1")).thenAnswer(invocation -> Optional.of(IdempotencyRecord.builder()
+                .id("admin:k1")
+                .requestHash(requestHash.get())
+                .createdAt(LocalDateTime.now().minusSeconds(30))
+                .build()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        idempotencyFilter.doFilter(orderRequest(), response, createOrder);
+
+        // Assert
+        assertEquals(0, chainCalls.get());
+        assertEquals(409, response.getStatus());
+        assertTrue(response.getContentAsString().contains("still being processed"));
+        verify(idempotencyRecordRepository, never()).deleteById(any());
+    }
+
+    private MockHttpServletRequest orderRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/customers/1/orders");
+        request.setServletPath("/customers/1/orders");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "k1");
+        request.setContentType("application/json");
+        request.setContent("{\"orderItems\":[]}".getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,249 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.repository.DailySalesRollupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para DailySalesRollupService")
+public class DailySalesRollupServiceTest {
+
+    @Mock
+    private DailySalesRollupRepository rollupRepository;
+    @Mock
+    private ReportCache reportCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DailySalesRollupService dailySalesRollupService;
+
+    private final LocalDate day = LocalDate.of(2025, 3, 10);
+    private final List<Runnable> queuedRefreshes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dailySalesRollupService = new DailySalesRollupService(rollupRepository, reportCache, transactionManager, queuedRefreshes::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(dailySalesRollupService);
+    }
+
+    @Test
+    @DisplayName("Deve reescrever o dia do pedido em segundo plano quando não há transação ativa")
+    void markOrderChanged_ShouldQueueRefresh_WhenNoTransactionIsActive() {
+        // Arrange
+        when(rollupRepository.findCreationDates(List.of(7L))).thenReturn(List.of(day));
+
+        // Act
+        dailySalesRollupService.markOrderChanged(7L);
+        runQueuedRefreshes();
+
+        // Assert
+        verify(rollupRepository).deleteSalesBetween(day, day.plusDays(1));
+        verify(rollupRepository).insertSalesBetween(day, day.plusDays(1));
+        verify(rollupRepository).deleteOrdersBetween(day, day.plusDays(1));
+        verify(rollupRepository).insertOrdersBetween(day, day.plusDays(1));
+        verify(transactionManager).commit(any());
+        verify(reportCache).evictDays(List.of(day));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as mudanças da transação e só reescrever os dias depois do commit")
+    void markOrderChanged_ShouldRefreshEachDayOnceAfterCommit_WhenTransactionIsActive() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        when(rollupRepository.findCreationDates(anyCollection())).thenReturn(List.of(day));
+
+        // Act
+        dailySalesRollupService.onOrderChange(new OrderChangeEvent(OrderChangeEvent.Type.ORDER_ITEM_UPDATED, 7L, 70L,
+                "PENDING", null, null, null, null, null, LocalDateTime.now()));
+        dailySalesRollupService.onOrderChange(new OrderChangeEvent(OrderChangeEvent.Type.ORDER_ITEM_UPDATED, 7L, 71L,
+                "PENDING", null, null, null, null, null, LocalDateTime.now()));
+        dailySalesRollupService.markOrderChanged(8L);
+        dailySalesRollupService.onOrderChange(OrderChangeEvent.ofStock(1L, 2L));
+
+        // Assert
+        verifyNoInteractions(rollupRepository);
+        assertTrue(queuedRefreshes.isEmpty());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.get(0).beforeCommit(false);
+        verifyNoInteractions(rollupRepository);
+
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        assertNull(TransactionSynchronizationManager.getResource(dailySalesRollupService));
+        runQueuedRefreshes();
+
+        verify(rollupRepository).findCreationDates(argThat(ids -> Set.copyOf(ids).equals(Set.of(7L, 8L))));
+        verify(rollupRepository, times(1)).deleteSalesBetween(day, day.plusDays(1));
+        verify(rollupRepository, times(1)).insertOrdersBetween(day, day.plusDays(1));
+        verify(reportCache).evictDays(List.of(day));
+    }
+
+    @Test
+    @DisplayName("Não deve reescrever nenhum dia quando a transação é desfeita")
+    void markOrderChanged_ShouldDropChanges_WhenTransactionRollsBack() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        dailySalesRollupService.markOrderChanged(7L);
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations().get(0)
+                .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertTrue(queuedRefreshes.isEmpty());
+        verifyNoInteractions(rollupRepository, reportCache);
+    }
+
+    @Test
+    @DisplayName("Deve juntar pedidos alterados em sequência numa única reescrita")
+    void markOrderChanged_ShouldFoldQueuedOrdersIntoOneRefresh() {
+        // Arrange
+        when(rollupRepository.findCreationDates(anyCollection())).thenReturn(List.of(day));
+
+        // Act
+        dailySalesRollupService.markOrderChanged(7L);
+        dailySalesRollupService.markOrderChanged(8L);
+        dailySalesRollupService.markOrderChanged(9L);
+        runQueuedRefreshes();
+
+        // Assert
+        verify(rollupRepository, times(1)).findCreationDates(argThat(ids -> Set.copyOf(ids).equals(Set.of(7L, 8L, 9L))));
+        verify(rollupRepository, times(1)).deleteSalesBetween(day, day.plusDays(1));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular custo e lucro e limpar o cache de relatórios depois do commit da mudança de custo")
+    void markCostsChanged_ShouldRefreshCostsAndEvictReports_AfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        dailySalesRollupService.markCostsChanged();
+        dailySalesRollupService.markCostsChanged();
+        verifyNoInteractions(rollupRepository, reportCache);
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        runQueuedRefreshes();
+
+        // Assert
+        verify(rollupRepository, times(1)).refreshCosts();
+        verify(transactionManager, times(1)).commit(any());
+        verify(reportCache).evictAll();
+    }
+
+    @Test
+    @DisplayName("Não deve recalcular custos quando a mudança de custo é desfeita")
+    void markCostsChanged_ShouldDropChange_WhenTransactionRollsBack() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        dailySalesRollupService.markCostsChanged();
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations().get(0)
+                .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertTrue(queuedRefreshes.isEmpty());
+        verifyNoInteractions(rollupRepository, reportCache);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o histórico em blocos de dias desde o primeiro pedido")
+    void rebuild_ShouldRefreshHistoryInChunks() {
+        // Arrange
+        LocalDate firstDay = LocalDate.now().minusDays(40);
+        when(rollupRepository.findFirstCreationDate()).thenReturn(Optional.of(firstDay));
+
+        // Act
+        dailySalesRollupService.rebuild();
+
+        // Assert
+        verify(rollupRepository).deleteSalesBetween(firstDay, firstDay.plusDays(31));
+        verify(rollupRepository).deleteSalesBetween(firstDay.plusDays(31), LocalDate.now().plusDays(1));
+        verify(rollupRepository, times(2)).insertSalesBetween(any(), any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(reportCache).evictAll();
+    }
+
+    @Test
+    @DisplayName("Deve preencher a semana ISO e o mês dos pedidos sem colunas de período, um dia por transação")
+    void rebuild_ShouldFillMissingPeriodBuckets_WithIsoWeeks() {
+        // Arrange
+        LocalDate lastMonday = LocalDate.of(2024, 12, 30);
+        when(rollupRepository.findCreationDatesWithoutPeriodBuckets()).thenReturn(List.of(lastMonday, day));
+        when(rollupRepository.findFirstCreationDate()).thenReturn(Optional.empty());
+
+        // Act
+        dailySalesRollupService.rebuild();
+
+        // Assert
+        verify(rollupRepository).fillPeriodBuckets(lastMonday, "2025-W01", "2024-12",
+                lastMonday.atStartOfDay(), lastMonday.plusDays(1).atStartOfDay());
+        verify(rollupRepository).fillPeriodBuckets(day, "2025-W11", "2025-03",
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir na inicialização quando as agregações não têm colunas de período")
+    void backfill_ShouldRebuild_WhenRollupsLackPeriodBuckets() {
+        // Arrange
+        when(rollupRepository.countOrderRollups()).thenReturn(12L);
+        when(rollupRepository.countOrderRollupsWithoutPeriodBuckets()).thenReturn(3L);
+
+        // Act
+        dailySalesRollupService.backfill();
+
+        // Assert
+        verify(rollupRepository).findFirstCreationDate();
+    }
+
+    @Test
+    @DisplayName("Não deve reconstruir na inicialização quando as agregações já existem")
+    void backfill_ShouldSkip_WhenRollupsExist() {
+        // Arrange
+        when(rollupRepository.countOrderRollups()).thenReturn(12L);
+
+        // Act
+        dailySalesRollupService.backfill();
+
+        // Assert
+        verify(rollupRepository, never()).findFirstCreationDate();
+    }
+
+    private void runQueuedRefreshes() {
+        while (!queuedRefreshes.isEmpty()) {
+            queuedRefreshes.remove(0).run();
+        }
+    }
+}
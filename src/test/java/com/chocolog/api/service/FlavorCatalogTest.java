@@ -0,0 +1,117 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.FlavorResponseDTO;
+import com.chocolog.api.dto.response.FlavorSizeResponseDTO;
+import com.chocolog.api.repository.CatalogRow;
+import com.chocolog.api.repository.FlavorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para FlavorCatalog")
+public class FlavorCatalogTest {
+
+    @Mock
+    private FlavorRepository flavorRepository;
+
+    @Mock
+    private StockReservationLedger stockReservationLedger;
+
+    private FlavorCatalog flavorCatalog;
+
+    @BeforeEach
+    void setUp() {
+        flavorCatalog = new FlavorCatalog(flavorRepository, stockReservationLedger);
+        ReflectionTestUtils.setField(flavorCatalog, "ttlMillis", 60000L);
+        lenient().when(stockReservationLedger.findAvailable(anyLong(), anyLong())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as linhas por sabor com valores padrão para preço e estoque ausentes")
+    void current_ShouldGroupRowsByFlavor_WithDefaultsForMissingPriceAndStock() {
+        // Arrange
+        when(flavorRepository.findCatalogRows()).thenReturn(List.of(
+                new CatalogRow(1L, "Ninho", 10L, "Pequeno", new BigDecimal("30.00"), new BigDecimal("12.00"), 20, 15),
+                new CatalogRow(1L, "Ninho", 11L, "Grande", null, null, null, null),
+                new CatalogRow(2L, "Maracujá", 10L, "Pequeno", new BigDecimal("32.00"), new BigDecimal("13.00"), 10, 10)));
+
+        // Act
+        FlavorCatalog.Snapshot catalog = flavorCatalog.current();
+
+        // Assert
+        assertEquals(2, catalog.flavors().size());
+        FlavorResponseDTO ninho = catalog.findFlavor(1L).orElseThrow();
+        assertEquals(2, ninho.getSizes().size());
+        FlavorSizeResponseDTO large = ninho.getSizes().get(1);
+        assertEquals(BigDecimal.ZERO, large.getSalePrice());
+        assertEquals(0, large.getTotalQuantity());
+        assertEquals(0, large.getRemainingQuantity());
+        assertTrue(catalog.etag().startsWith("\""));
+    }
+
+    @Test
+    @DisplayName("Deve usar o saldo reservado do ledger no lugar do saldo gravado")
+    void current_ShouldUseLedgerAvailability_WhenCounterIsLoaded() {
+        // Arrange
+        when(flavorRepository.findCatalogRows()).thenReturn(List.of(
+                new CatalogRow(1L, "Ninho", 10L, "Pequeno", new BigDecimal("30.00"), new BigDecimal("12.00"), 20, 15)));
+        when(stockReservationLedger.findAvailable(1L, 10L)).thenReturn(Optional.of(9));
+
+        // Act
+        FlavorCatalog.Snapshot catalog = flavorCatalog.current();
+
+        // Assert
+        assertEquals(9, catalog.flavors().get(0).getSizes().get(0).getRemainingQuantity());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco uma vez e reconstruir apenas após mudança de estoque")
+    void current_ShouldRebuild_OnlyAfterStockChange() {
+        // Arrange
+        when(flavorRepository.findCatalogRows())
+                .thenReturn(List.of(new CatalogRow(1L, "Ninho", 10L, "Pequeno", BigDecimal.TEN, BigDecimal.ONE, 20, 15)))
+                .thenReturn(List.of(new CatalogRow(1L, "Ninho", 10L, "Pequeno", BigDecimal.TEN, BigDecimal.ONE, 20, 14)));
+
+        // Act
+        FlavorCatalog.Snapshot first = flavorCatalog.current();
+        FlavorCatalog.Snapshot cached = flavorCatalog.current();
+        flavorCatalog.onOrderChange(OrderChangeEvent.ofStock(1L, 10L));
+        FlavorCatalog.Snapshot rebuilt = flavorCatalog.current();
+
+        // Assert
+        assertSame(first, cached);
+        assertNotEquals(first.etag(), rebuilt.etag());
+        assertEquals(14, rebuilt.flavors().get(0).getSizes().get(0).getRemainingQuantity());
+        verify(flavorRepository, times(2)).findCatalogRows();
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo ETag quando o conteúdo reconstruído não mudou")
+    void current_ShouldKeepEtag_WhenContentIsUnchanged() {
+        // Arrange
+        when(flavorRepository.findCatalogRows()).thenReturn(
+                List.of(new CatalogRow(1L, "Ninho", 10L, "Pequeno", BigDecimal.TEN, BigDecimal.ONE, 20, 15)));
+
+        // Act
+        String first = flavorCatalog.current().etag();
+        flavorCatalog.invalidate();
+        String second = flavorCatalog.current().etag();
+
+        // Assert
+        assertEquals(first, second);
+        verify(flavorRepository, times(2)).findCatalogRows();
+    }
+}
@@ -1,16 +1,21 @@
 package com.chocolog.api.service;
 
+import com.chocolog.api.audit.AuditHelper;
 import com.chocolog.api.dto.request.FlavorPatchRequestDTO;
 import com.chocolog.api.dto.request.FlavorRequestDTO;
+import com.chocolog.api.dto.request.PriceAdjustmentRequestDTO;
 import com.chocolog.api.dto.request.PriceRequestDTO;
 import com.chocolog.api.dto.response.FlavorResponseDTO;
 import com.chocolog.api.dto.response.FlavorSizeResponseDTO;
+import com.chocolog.api.dto.response.PriceAdjustmentResponseDTO;
 import com.chocolog.api.mapper.FlavorMapper;
 import com.chocolog.api.model.Flavor;
 import com.chocolog.api.model.ProductPrice;
 import com.chocolog.api.model.Size;
 import com.chocolog.api.model.Stock;
+import com.chocolog.api.repository.CatalogRow;
 import com.chocolog.api.repository.FlavorRepository;
+import com.chocolog.api.repository.PriceAdjustment;
 import com.chocolog.api.repository.ProductPriceRepository;
 import com.chocolog.api.repository.SizeRepository;
 import com.chocolog.api.repository.StockRepository;
@@ -19,10 +24,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -31,6 +39,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +52,12 @@ public class FlavorServiceTest {
     @Mock private StockRepository stockRepository;
     @Mock private FlavorRepository flavorRepository;
     @Mock private FlavorMapper flavorMapper;
+    @Mock private PriceMatrix priceMatrix;
+    @Mock private FlavorCatalog flavorCatalog;
+    @Mock private AuditHelper auditHelper;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private DailySalesRollupService dailySalesRollupService;
+    @Mock private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private FlavorService flavorService;
@@ -83,68 +99,82 @@ public class FlavorServiceTest {
                 .thenReturn(Optional.of(mockStock));
     }
 
+    private FlavorCatalog.Snapshot catalogWithChocolateBlend() {
+        return FlavorCatalog.Snapshot.of(List.of(new CatalogRow(1L, "Chocolate Blend", 10L, "Pequeno",
+                new BigDecimal("10.00"), new BigDecimal("5.00"), 100, 80)), 0);
+    }
+
     // --- Testes para findAll ---
     @Test
-    @DisplayName("Deve retornar todos os sabores e suas informações de tamanho/preço/estoque")
-    void findAll_ShouldReturnFlavors_WhenRepositoryIsNotEmpty() {
+    @DisplayName("Deve retornar os sabores do catálogo sem consultar preços e estoque por tamanho")
+    void findAll_ShouldReturnFlavorsFromCatalog() {
         // Arrange
-        List<Flavor> flavors = List.of(mockFlavor);
-        when(flavorRepository.findAll()).thenReturn(flavors);
-        mockBuildFlavorResponseDTO();
+        when(flavorCatalog.current()).thenReturn(catalogWithChocolateBlend());
 
         // Act
         List<FlavorResponseDTO> result = flavorService.findAll();
 
         // Assert
-        assertNotNull(result);
-        assertFalse(result.isEmpty());
         assertEquals(1, result.size());
         assertEquals("Chocolate Blend", result.get(0).getName());
-        assertNotNull(result.get(0).getSizes());
-        verify(flavorRepository, times(1)).findAll();
-        verify(sizeRepository, times(1)).findAll();
+        assertEquals(1, result.get(0).getSizes().size());
+        verifyNoInteractions(flavorRepository, sizeRepository, productPriceRepository, stockRepository);
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não há sabores")
-    void findAll_ShouldReturnEmptyList_WhenRepositoryIsEmpty() {
+    @DisplayName("Deve retornar lista vazia quando o catálogo não tem sabores")
+    void findAll_ShouldReturnEmptyList_WhenCatalogIsEmpty() {
         // Arrange
-        when(flavorRepository.findAll()).thenReturn(Collections.emptyList());
+        when(flavorCatalog.current()).thenReturn(FlavorCatalog.Snapshot.of(Collections.emptyList(), 0));
 
         // Act
         List<FlavorResponseDTO> result = flavorService.findAll();
 
         // Assert
         assertTrue(result.isEmpty());
-        verify(sizeRepository, never()).findAll();
     }
 
     // --- Testes para findById ---
     @Test
-    @DisplayName("Deve retornar FlavorResponseDTO completo quando o ID for encontrado")
-    void findById_ShouldReturnFlavorResponseDTO_WhenIdExists() {
+    @DisplayName("Deve retornar o sabor do catálogo quando o ID está no snapshot")
+    void findById_ShouldReturnFlavorFromCatalog_WhenIdIsInSnapshot() {
         // Arrange
-        when(flavorRepository.findById(1L)).thenReturn(Optional.of(mockFlavor));
-        mockBuildFlavorResponseDTO();
+        when(flavorCatalog.current()).thenReturn(catalogWithChocolateBlend());
 
         // Act
         FlavorResponseDTO result = flavorService.findById(1L);
 
         // Assert
-        assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("Chocolate Blend", result.getName());
-        verify(flavorRepository, times(1)).findById(1L);
-
         List<FlavorSizeResponseDTO> sizes = result.getSizes();
-        assertFalse(sizes.isEmpty());
         assertEquals(new BigDecimal("10.00"), sizes.get(0).getSalePrice());
+        assertEquals(80, sizes.get(0).getRemainingQuantity());
+        verify(flavorRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o ID ainda não está no snapshot")
+    void findById_ShouldFallBackToRepository_WhenIdIsNotInSnapshot() {
+        // Arrange
+        when(flavorCatalog.current()).thenReturn(FlavorCatalog.Snapshot.of(Collections.emptyList(), 0));
+        when(flavorRepository.findById(1L)).thenReturn(Optional.of(mockFlavor));
+        mockBuildFlavorResponseDTO();
+
+        // Act
+        FlavorResponseDTO result = flavorService.findById(1L);
+
+        // Assert
+        assertEquals("Chocolate Blend", result.getName());
+        assertEquals(new BigDecimal("10.00"), result.getSizes().get(0).getSalePrice());
+        verify(flavorRepository, times(1)).findById(1L);
     }
 
     @Test
     @DisplayName("Deve lançar EntityNotFoundException quando o ID não for encontrado")
     void findById_ShouldThrowException_WhenIdDoesNotExist() {
         // Arrange
+        when(flavorCatalog.current()).thenReturn(FlavorCatalog.Snapshot.of(Collections.emptyList(), 0));
         when(flavorRepository.findById(2L)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -170,8 +200,6 @@ public class FlavorServiceTest {
         when(flavorMapper.toEntity(requestDTO)).thenReturn(flavorToSave);
         when(flavorRepository.save(flavorToSave)).thenReturn(savedFlavor);
         when(sizeRepository.findById(10L)).thenReturn(Optional.of(mockSize));
-
-        when(flavorRepository.findById(2L)).thenReturn(Optional.of(savedFlavor));
         mockBuildFlavorResponseDTO();
 
         // Act
@@ -183,6 +211,8 @@ public class FlavorServiceTest {
 
         verify(productPriceRepository, times(1)).save(any(ProductPrice.class));
         verify(stockRepository, times(1)).save(any(Stock.class));
+        verify(priceMatrix, times(1)).invalidate();
+        verify(flavorCatalog, times(1)).invalidate();
     }
 
     @Test
@@ -234,8 +264,6 @@ public class FlavorServiceTest {
 
         when(flavorRepository.findById(flavorId)).thenReturn(Optional.of(mockFlavor));
         when(flavorRepository.findByName("Chocolate Duplo")).thenReturn(Optional.empty());
-
-        when(flavorRepository.findById(flavorId)).thenReturn(Optional.of(mockFlavor));
         mockBuildFlavorResponseDTO();
 
         // Act
@@ -243,9 +271,10 @@ public class FlavorServiceTest {
 
         // Assert
         assertEquals("Chocolate Duplo", mockFlavor.getName());
-        verify(flavorRepository, times(2)).findById(flavorId);
+        verify(flavorRepository, times(1)).findById(flavorId);
         verify(flavorRepository, times(1)).findByName("Chocolate Duplo");
         verify(productPriceRepository, never()).save(any());
+        verify(flavorCatalog, times(1)).invalidate();
     }
 
     @Test
@@ -282,6 +311,42 @@ public class FlavorServiceTest {
         verify(productPriceRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Deve liberar e reservar estoque de um par antes ausente depois que o update cria a linha de estoque")
+    void update_ShouldMakeCreatedStockReservable_WhenPairWasCachedAsAbsent() {
+        // Arrange
+        StockReservationLedger ledger = new StockReservationLedger(stockRepository, transactionManager);
+        FlavorService service = new FlavorService(sizeRepository, productPriceRepository, stockRepository,
+                flavorRepository, flavorMapper, priceMatrix, flavorCatalog, auditHelper,
+                event -> ledger.onOrderChange((OrderChangeEvent) event), dailySalesRollupService);
+        FlavorPatchRequestDTO requestDTO = FlavorPatchRequestDTO.builder()
+                .prices(List.of(PriceRequestDTO.builder().sizeId(10L).salePrice(new BigDecimal("12.00")).build()))
+                .build();
+
+        when(stockRepository.findRemainingQuantities(List.of(1L), List.of(10L))).thenReturn(Collections.emptyList());
+        when(flavorRepository.findById(1L)).thenReturn(Optional.of(mockFlavor));
+        when(sizeRepository.findById(10L)).thenReturn(Optional.of(mockSize));
+        when(flavorMapper.toResponseDTO(any(Flavor.class))).thenReturn(mockResponseDTO);
+        when(sizeRepository.findAll()).thenReturn(List.of(mockSize));
+        when(productPriceRepository.findByFlavorAndSize(mockFlavor, mockSize))
+                .thenReturn(Optional.empty(), Optional.of(mockProductPrice));
+        when(stockRepository.findByFlavorAndSize(mockFlavor, mockSize))
+                .thenReturn(Optional.empty(), Optional.of(mockStock));
+        when(stockRepository.findRemainingQuantity(1L, 10L)).thenReturn(Optional.of(0));
+        ledger.preload(List.of(1L), List.of(10L));
+
+        // Act
+        service.update(1L, requestDTO);
+        ledger.release(1L, 10L, 5);
+        boolean reserved = ledger.tryReserve(1L, 10L, 3);
+
+        // Assert
+        assertTrue(reserved);
+        assertEquals(Optional.of(2), ledger.findAvailable(1L, 10L));
+        verify(stockRepository, times(1)).save(any(Stock.class));
+        verify(stockRepository, times(1)).findRemainingQuantity(1L, 10L);
+    }
+
     // --- Testes para deleteById ---
     @Test
     @DisplayName("Deve deletar o sabor quando o ID é encontrado")
@@ -296,6 +361,7 @@ public class FlavorServiceTest {
         // Assert
         verify(flavorRepository, times(1)).findById(flavorId);
         verify(flavorRepository, times(1)).delete(mockFlavor);
+        verify(flavorCatalog, times(1)).invalidate();
     }
 
     @Test
@@ -310,4 +376,78 @@ public class FlavorServiceTest {
                 () -> flavorService.deleteById(flavorId));
         verify(flavorRepository, never()).delete(any());
     }
-}
\ No newline at end of file
+
+    // --- Testes para adjustPrices ---
+    @Test
+    @DisplayName("Deve reajustar percentualmente em uma única atualização e invalidar os caches de preço")
+    void adjustPrices_ShouldRunSingleUpdate_WhenPercentageIsValid() {
+        // Arrange
+        PriceAdjustmentRequestDTO requestDTO = new PriceAdjustmentRequestDTO(
+                null, List.of(10L), "PERCENTAGE", new BigDecimal("12.5"), true, false);
+        when(productPriceRepository.adjustPrices(any(PriceAdjustment.class))).thenReturn(30);
+        when(productPriceRepository.countSelected(any(PriceAdjustment.class))).thenReturn(30L);
+
+        // Act
+        PriceAdjustmentResponseDTO result = flavorService.adjustPrices(requestDTO);
+
+        // Assert
+        assertEquals(30, result.getUpdatedPrices());
+        ArgumentCaptor<PriceAdjustment> captor = ArgumentCaptor.forClass(PriceAdjustment.class);
+        verify(productPriceRepository).adjustPrices(captor.capture());
+        PriceAdjustment adjustment = captor.getValue();
+        assertTrue(adjustment.flavorIds().isEmpty());
+        assertEquals(List.of(10L), adjustment.sizeIds());
+        assertEquals(0, new BigDecimal("1.125").compareTo(adjustment.factor()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(adjustment.delta()));
+        assertTrue(adjustment.salePrice());
+        assertFalse(adjustment.costPrice());
+        verify(auditHelper, times(1)).saveBulkAudit(eq("ProductPrice"), eq("UPDATE"), anyMap());
+        verify(priceMatrix, times(1)).invalidate();
+        verify(flavorCatalog, times(1)).invalidate();
+        verify(productPriceRepository, never()).save(any());
+        verify(dailySalesRollupService, never()).markCostsChanged();
+    }
+
+    @Test
+    @DisplayName("Deve recalcular custo e lucro das agregações quando o reajuste altera o preço de custo")
+    void adjustPrices_ShouldRefreshRollupCosts_WhenCostPriceIsAdjusted() {
+        // Arrange
+        PriceAdjustmentRequestDTO requestDTO = new PriceAdjustmentRequestDTO(
+                List.of(1L), null, "ABSOLUTE", new BigDecimal("2.00"), false, true);
+        when(productPriceRepository.adjustPrices(any(PriceAdjustment.class))).thenReturn(3);
+        when(productPriceRepository.countSelected(any(PriceAdjustment.class))).thenReturn(3L);
+
+        // Act
+        flavorService.adjustPrices(requestDTO);
+
+        // Assert
+        verify(dailySalesRollupService, times(1)).markCostsChanged();
+        verify(priceMatrix, times(1)).invalidate();
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o reajuste deixaria preços negativos")
+    void adjustPrices_ShouldThrowException_WhenResultWouldBeNegative() {
+        // Arrange
+        PriceAdjustmentRequestDTO requestDTO = new PriceAdjustmentRequestDTO(
+                List.of(1L), null, "ABSOLUTE", new BigDecimal("-50.00"), true, true);
+        when(productPriceRepository.adjustPrices(any(PriceAdjustment.class))).thenReturn(28);
+        when(productPriceRepository.countSelected(any(PriceAdjustment.class))).thenReturn(30L);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> flavorService.adjustPrices(requestDTO));
+        verifyNoInteractions(auditHelper, priceMatrix, flavorCatalog, dailySalesRollupService);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando nem preço de venda nem de custo são selecionados")
+    void adjustPrices_ShouldThrowException_WhenNoPriceIsSelected() {
+        // Arrange
+        PriceAdjustmentRequestDTO requestDTO = new PriceAdjustmentRequestDTO(
+                null, null, "ABSOLUTE", BigDecimal.ONE, false, false);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> flavorService.adjustPrices(requestDTO));
+        verifyNoInteractions(productPriceRepository);
+    }
+}
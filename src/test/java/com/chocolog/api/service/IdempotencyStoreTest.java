@@ -0,0 +1,131 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.model.IdempotencyRecord;
+import com.chocolog.api.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para IdempotencyStore")
+public class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(idempotencyRecordRepository, 2, 300);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a chave quando outra requisição já a registrou")
+    void begin_ShouldReturnFalse_WhenKeyAlreadyExists() {
+        // Arrange
+        when(idempotencyRecordRepository.insertPending(eq("admin:k1"), eq("hash"), any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // Act & Assert
+        assertFalse(idempotencyStore.begin("admin:k1", "hash"));
+    }
+
+    @Test
+    @DisplayName("Deve assumir a chave pendente cujo prazo expirou")
+    void begin_ShouldClaimKey_WhenPendingLeaseExpired() {
+        // Arrange
+        when(idempotencyRecordRepository.insertPending(eq("admin:k1"), eq("hash"), any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyRecordRepository.claimStalePending(eq("admin:k1"), eq("hash"), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // Act
+        boolean claimed = idempotencyStore.begin("admin:k1", "hash");
+
+        // Assert
+        assertTrue(claimed);
+        ArgumentCaptor<LocalDateTime> createdAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(idempotencyRecordRepository).claimStalePending(eq("admin:k1"), eq("hash"), createdAt.capture(), staleBefore.capture());
+        assertEquals(createdAt.getValue().minusSeconds(300), staleBefore.getValue());
+    }
+
+    @Test
+    @DisplayName("Deve responder da memória após concluir, sem consultar o banco")
+    void find_ShouldUseMemory_WhenRecordWasCompleted() {
+        // Arrange
+        IdempotencyRecord record = record("admin:k1");
+
+        // Act
+        idempotencyStore.complete(record);
+        Optional<IdempotencyRecord> result = idempotencyStore.find("admin:k1");
+
+        // Assert
+        assertEquals(Optional.of(record), result);
+        verify(idempotencyRecordRepository).complete("admin:k1", 201, "application/json", "/customers/1/orders/9", "{}");
+        verify(idempotencyRecordRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar da memória a chave menos usada quando o limite é atingido")
+    void complete_ShouldEvictLeastRecentlyUsed_WhenCacheIsFull() {
+        // Arrange
+        idempotencyStore.complete(record("admin:k1"));
+        idempotencyStore.complete(record("admin:k2"));
+        idempotencyStore.findCached("admin:k1");
+
+        // Act
+        idempotencyStore.complete(record("admin:k3"));
+
+        // Assert
+        assertTrue(idempotencyStore.findCached("admin:k1").isPresent());
+        assertTrue(idempotencyStore.findCached("admin:k2").isEmpty());
+        assertTrue(idempotencyStore.findCached("admin:k3").isPresent());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar na memória requisição ainda em andamento")
+    void find_ShouldNotCache_WhenRecordIsPending() {
+        // Arrange
+        IdempotencyRecord pending = IdempotencyRecord.builder()
+                .id("admin:k1")
+                .requestHash("hash")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(idempotencyRecordRepository.findById("admin:k1")).thenReturn(Optional.of(pending));
+
+        // Act
+        Optional<IdempotencyRecord> result = idempotencyStore.find("admin:k1");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertFalse(result.get().isCompleted());
+        assertTrue(idempotencyStore.findCached("admin:k1").isEmpty());
+    }
+
+    private IdempotencyRecord record(String id) {
+        return IdempotencyRecord.builder()
+                .id(id)
+                .requestHash("hash")
+                .responseStatus(201)
+                .contentType("application/json")
+                .location("/customers/1/orders/9")
+                .responseBody("{}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários para OrderAggregateRecalculator")
+public class OrderAggregateRecalculatorTest {
+
+    private final OrderAggregateRecalculator recalculator = new OrderAggregateRecalculator();
+
+    private Order order;
+    private Charge charge;
+
+    @BeforeEach
+    void setUp() {
+        order = Order.builder()
+                .id(1L)
+                .status(OrderStatus.READY_FOR_PICKUP)
+                .orderItems(new ArrayList<>(List.of(
+                        item(new BigDecimal("30.00"), OrderStatus.READY_FOR_PICKUP),
+                        item(new BigDecimal("20.00"), OrderStatus.READY_FOR_PICKUP)
+                )))
+                .build();
+
+        charge = Charge.builder()
+                .id(2L)
+                .order(order)
+                .subtotalAmount(new BigDecimal("50.00"))
+                .discount(new BigDecimal("5.00"))
+                .totalAmount(new BigDecimal("45.00"))
+                .paidAmount(BigDecimal.ZERO)
+                .status(ChargeStatus.UNPAID)
+                .build();
+        order.setCharges(charge);
+    }
+
+    @Test
+    @DisplayName("Não deve alterar nada quando o pedido já está consistente")
+    void recalculate_ShouldReportNoStatements_WhenNothingChanged() {
+        // Act
+        OrderAggregateRecalculator.OrderRecalculation result = recalculator.recalculate(order);
+
+        // Assert
+        assertEquals(0, result.statements());
+        assertEquals(new BigDecimal("45.00"), charge.getTotalAmount());
+        assertEquals(OrderStatus.READY_FOR_PICKUP, order.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular valores, status da cobrança e status do pedido em uma única passada")
+    void recalculate_ShouldUpdateChargeAndOrder_WhenItemIsAdded() {
+        // Arrange
+        order.getOrderItems().add(item(new BigDecimal("15.00"), OrderStatus.PENDING));
+        charge.setPaidAmount(new BigDecimal("10.00"));
+
+        // Act
+        OrderAggregateRecalculator.OrderRecalculation result = recalculator.recalculate(order);
+
+        // Assert
+        assertEquals(2, result.statements());
+        assertEquals(new BigDecimal("65.00"), charge.getSubtotalAmount());
+        assertEquals(new BigDecimal("60.00"), charge.getTotalAmount());
+        assertEquals(ChargeStatus.PARTIAL, charge.getStatus());
+        assertEquals(OrderStatus.PENDING, order.getStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve alterar o status de pedido cancelado")
+    void recalculate_ShouldKeepStatus_WhenOrderIsCancelled() {
+        // Arrange
+        order.setStatus(OrderStatus.CANCELLED);
+        order.getOrderItems().remove(1);
+
+        // Act
+        OrderAggregateRecalculator.OrderRecalculation result = recalculator.recalculate(order);
+
+        // Assert
+        assertTrue(result.chargeChanged());
+        assertFalse(result.orderChanged());
+        assertEquals(OrderStatus.CANCELLED, order.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalStateException quando o pedido não tem cobrança")
+    void recalculate_ShouldThrowIllegalStateException_WhenChargeIsMissing() {
+        // Arrange
+        order.setCharges(null);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> recalculator.recalculate(order));
+    }
+
+    private OrderItem item(BigDecimal totalPrice, OrderStatus status) {
+        return OrderItem.builder()
+                .totalPrice(totalPrice)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.dto.request.OrderRequestDTO;
+import com.chocolog.api.dto.response.OrderResponseDTO;
+import com.chocolog.api.model.*;
+import com.chocolog.api.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that listing orders runs the same number of statements regardless of how many orders match.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-fetch-plan-benchmark;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Benchmark do plano de busca de pedidos")
+public class OrderFetchPlanBenchmarkTest {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private SizeRepository sizeRepository;
+    @Autowired
+    private FlavorRepository flavorRepository;
+    @Autowired
+    private ProductPriceRepository productPriceRepository;
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Deve listar pedidos por data com número constante de consultas")
+    void findAllByDateFilter_ShouldRunConstantQueries() {
+        // Arrange
+        Customer customer = customerRepository.save(Customer.builder().name("Cliente").phone("11999999999").isReseller(false).build());
+        Employee employee = employeeRepository.save(Employee.builder().name("Equipe").login("fetch-plan").passwordHash("x").role(Role.ADMIN).build());
+        Size size = sizeRepository.save(Size.builder().name("1Kg").build());
+        Flavor flavor1 = flavorRepository.save(Flavor.builder().name("Brigadeiro").build());
+        Flavor flavor2 = flavorRepository.save(Flavor.builder().name("Ninho").build());
+        for (Flavor flavor : List.of(flavor1, flavor2)) {
+            productPriceRepository.save(ProductPrice.builder().flavor(flavor).size(size)
+                    .salePrice(new BigDecimal("120.00")).costPrice(new BigDecimal("50.00")).build());
+        }
+
+        LocalDate quietDay = LocalDate.now().plusDays(10);
+        LocalDate busyDay = LocalDate.now().plusDays(11);
+        createOrders(customer, employee, size, flavor1, flavor2, quietDay, 3);
+        createOrders(customer, employee, size, flavor1, flavor2, busyDay, 40);
+
+        dailySalesRollupService.awaitQueuedRefreshes();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Act
+        statistics.clear();
+        List<OrderResponseDTO> quiet = orderService.findAllByDateFilter(quietDay.toString());
+        long quietStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<OrderResponseDTO> busy = orderService.findAllByDateFilter(busyDay.toString());
+        long busyStatements = statistics.getPrepareStatementCount();
+
+        // Assert
+        System.out.printf("Listed %d orders with %d statements and %d orders with %d statements.%n",
+                quiet.size(), quietStatements, busy.size(), busyStatements);
+        assertEquals(3, quiet.size());
+        assertEquals(40, busy.size());
+        assertEquals(2, busy.get(0).getOrderItems().size());
+        assertEquals(quietStatements, busyStatements);
+    }
+
+    private void createOrders(Customer customer, Employee employee, Size size, Flavor flavor1, Flavor flavor2,
+                              LocalDate pickupDay, int count) {
+        for (int i = 0; i < count; i++) {
+            OrderRequestDTO order = new OrderRequestDTO();
+            order.setExpectedPickupDate(pickupDay.atTime(10, 0));
+            order.setOrderItems(List.of(
+                    OrderItemRequestDTO.builder().sizeId(size.getId()).flavor1Id(flavor1.getId()).quantity(1).build(),
+                    OrderItemRequestDTO.builder().sizeId(size.getId()).flavor1Id(flavor1.getId()).flavor2Id(flavor2.getId()).quantity(1).build()
+            ));
+            orderService.create(customer.getId(), order, employee.getId());
+        }
+    }
+}
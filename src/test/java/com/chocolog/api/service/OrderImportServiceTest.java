@@ -0,0 +1,292 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.request.OrderRequestDTO;
+import com.chocolog.api.dto.response.OrderImportResponseDTO;
+import com.chocolog.api.dto.response.OrderResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para OrderImportService")
+public class OrderImportServiceTest {
+
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private EntityManager entityManager;
+
+    private OrderImportService orderImportService;
+
+    private final Long employeeId = 7L;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        orderImportService = new OrderImportService(orderService, transactionTemplate, validator, objectMapper);
+        ReflectionTestUtils.setField(orderImportService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(orderImportService, "chunkSize", 100);
+    }
+
+    // --- Métodos Privados Auxiliares ---
+    private void mockTransactionTemplate() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private OrderResponseDTO mockCreatedOrder(Long orderId) {
+        OrderResponseDTO response = mock(OrderResponseDTO.class);
+        when(response.getId()).thenReturn(orderId);
+        return response;
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // --- Testes para importOrders ---
+
+    @Test
+    @DisplayName("Deve agrupar linhas CSV por referência e criar um pedido por grupo")
+    void importOrders_ShouldGroupCsvRowsByReference() {
+        // Arrange
+        mockTransactionTemplate();
+        OrderResponseDTO first = mockCreatedOrder(10L);
+        OrderResponseDTO second = mockCreatedOrder(11L);
+        when(orderService.create(eq(1L), any(OrderRequestDTO.class), eq(employeeId))).thenReturn(first);
+        when(orderService.create(eq(2L), any(OrderRequestDTO.class), eq(employeeId))).thenReturn(second);
+
+        String csv = """
+                reference,customerId,expectedPickupDate,notes,discount,sizeId,flavor1Id,flavor2Id,quantity,itemNotes
+                A-1,1,2030-03-28T10:00:00,"Revenda, lote 1",5.00,1,1,,2,
+                A-1,1,2030-03-28T10:00:00,,,1,2,,3,"Sem ""laço"""
+                A-2,2,2030-03-29T10:00:00,,,2,1,2,1,
+                """;
+
+        // Act
+        OrderImportResponseDTO result = orderImportService.importOrders(body(csv), OrderImportService.TEXT_CSV, employeeId);
+
+        // Assert
+        assertEquals(3, result.getTotalRows());
+        assertEquals(2, result.getImportedOrders());
+        assertEquals(0, result.getFailedOrders());
+        assertEquals(List.of(10L, 10L, 11L), result.getRows().stream().map(row -> row.getOrderId()).toList());
+
+        ArgumentCaptor<OrderRequestDTO> requestCaptor = ArgumentCaptor.forClass(OrderRequestDTO.class);
+        verify(orderService).create(eq(1L), requestCaptor.capture(), eq(employeeId));
+        OrderRequestDTO request = requestCaptor.getValue();
+        assertEquals("Revenda, lote 1", request.getNotes());
+        assertEquals(2, request.getOrderItems().size());
+        assertEquals("Sem \"laço\"", request.getOrderItems().get(1).getNotes());
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Deve reprocessar o lote pedido a pedido quando um pedido falhar")
+    void importOrders_ShouldRetryChunkOneByOne_WhenAnOrderFails() {
+        // Arrange
+        mockTransactionTemplate();
+        OrderResponseDTO created = mockCreatedOrder(10L);
+        when(orderService.create(eq(1L), any(OrderRequestDTO.class), eq(employeeId))).thenReturn(created);
+        when(orderService.create(eq(2L), any(OrderRequestDTO.class), eq(employeeId)))
+                .thenThrow(new IllegalArgumentException("Insufficient stock for flavor id: 1 and size id: 1"));
+
+        String ndjson = """
+                {"reference":"A-1","customerId":1,"expectedPickupDate":"2030-03-28T10:00:00","sizeId":1,"flavor1Id":1,"quantity":2}
+                {"reference":"A-2","customerId":2,"expectedPickupDate":"2030-03-28T10:00:00","sizeId":1,"flavor1Id":1,"quantity":50}
+                """;
+
+        // Act
+        OrderImportResponseDTO result = orderImportService.importOrders(body(ndjson), OrderImportService.APPLICATION_NDJSON, employeeId);
+
+        // Assert
+        assertEquals(1, result.getImportedOrders());
+        assertEquals(1, result.getFailedOrders());
+        assertEquals("IMPORTED", result.getRows().get(0).getStatus());
+        assertEquals("FAILED", result.getRows().get(1).getStatus());
+        assertEquals("Insufficient stock for flavor id: 1 and size id: 1", result.getRows().get(1).getMessage());
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar pedido inválido sem chamar o OrderService")
+    void importOrders_ShouldFailOrder_WhenRowIsInvalid() {
+        // Arrange
+        String ndjson = """
+                {"reference":"A-1","customerId":1,"expectedPickupDate":"2030-03-28T10:00:00","sizeId":1,"flavor1Id":1,"quantity":0}
+                {"reference":"A-2","customerId":1,"sizeId":1,"flavor1Id":"abc","quantity":1}
+                """;
+
+        // Act
+        OrderImportResponseDTO result = orderImportService.importOrders(body(ndjson), OrderImportService.APPLICATION_NDJSON, employeeId);
+
+        // Assert
+        assertEquals(2, result.getTotalRows());
+        assertEquals(0, result.getImportedOrders());
+        assertEquals(2, result.getFailedOrders());
+        assertTrue(result.getRows().get(0).getMessage().contains("Quantity must be at least 1"));
+        assertTrue(result.getRows().get(1).getMessage().startsWith("Line 2: Invalid row"));
+        verify(orderService, never()).create(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a linha cuja referência reaparece depois de o pedido ter sido fechado")
+    void importOrders_ShouldFailRow_WhenReferenceComesBackAfterItsOrderWasClosed() {
+        // Arrange
+        mockTransactionTemplate();
+        OrderResponseDTO first = mockCreatedOrder(10L);
+        OrderResponseDTO second = mockCreatedOrder(11L);
+        when(orderService.create(eq(1L), any(OrderRequestDTO.class), eq(employeeId))).thenReturn(first);
+        when(orderService.create(eq(2L), any(OrderRequestDTO.class), eq(employeeId))).thenReturn(second);
+
+        String ndjson = """
+                {"reference":"A-1","customerId":1,"expectedPickupDate":"2030-03-28T10:00:00","sizeId":1,"flavor1Id":1,"quantity":2}
+                {"reference":"A-2","customerId":2,"expectedPickupDate":"2030-03-28T10:00:00","sizeId":1,"flavor1Id":1,"quantity":1}
+                {"reference":"A-1","sizeId":1,"flavor1Id":2,"quantity":3}
+                """;
+
+        // Act
+        OrderImportResponseDTO result = orderImportService.importOrders(body(ndjson), OrderImportService.APPLICATION_NDJSON, employeeId);
+
+        // Assert
+        assertEquals(2, result.getImportedOrders());
+        assertEquals(List.of("IMPORTED", "IMPORTED", "FAILED"), result.getRows().stream().map(row -> row.getStatus()).toList());
+        assertTrue(result.getRows().get(2).getMessage().startsWith("Rows of reference A-1 must be consecutive"));
+
+        ArgumentCaptor<OrderRequestDTO> requestCaptor = ArgumentCaptor.forClass(OrderRequestDTO.class);
+        verify(orderService).create(eq(1L), requestCaptor.capture(), eq(employeeId));
+        assertEquals(1, requestCaptor.getValue().getOrderItems().size());
+    }
+
+    @Test
+    @DisplayName("Deve criar os pedidos em lotes enquanto o arquivo ainda é lido, sem acumular o arquivo inteiro")
+    void importOrders_ShouldCreateChunksWhileReading_KeepingPendingOrdersBounded() {
+        // Arrange
+        int orders = 10_000;
+        int chunkSize = 50;
+        ReflectionTestUtils.setField(orderImportService, "chunkSize", chunkSize);
+        mockTransactionTemplate();
+        GeneratedRows rows = new GeneratedRows(orders);
+        OrderResponseDTO created = mockCreatedOrder(10L);
+        AtomicInteger createdOrders = new AtomicInteger();
+        AtomicInteger maxOrdersAhead = new AtomicInteger();
+        when(orderService.create(eq(1L), any(OrderRequestDTO.class), eq(employeeId))).thenAnswer(invocation -> {
+            maxOrdersAhead.accumulateAndGet(rows.produced - createdOrders.getAndIncrement(), Math::max);
+            return created;
+        });
+
+        // Act
+        OrderImportResponseDTO result = orderImportService.importOrders(rows, OrderImportService.APPLICATION_NDJSON, employeeId);
+
+        // Assert
+        assertEquals(orders, result.getImportedOrders());
+        assertEquals(orders, createdOrders.get());
+        verify(transactionTemplate, times(orders / chunkSize)).execute(any());
+        // One chunk plus what the reader buffers ahead, far below the 10 000 orders of the file.
+        assertTrue(maxOrdersAhead.get() <= chunkSize + 200, "Orders read ahead of creation: " + maxOrdersAhead.get());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o pedido inteiro quando uma de suas linhas não puder ser lida")
+    void importOrders_ShouldFailWholeOrder_WhenOneOfItsRowsIsUnreadable() {
+        // Arrange
+        String csv = """
+                reference,customerId,expectedPickupDate,sizeId,flavor1Id,quantity
+                A-1,1,2030-03-28T10:00:00,1,1,2
+                A-1,1,2030-03-28T10:00:00,1,abc,1
+                """;
+
+        // Act
+        OrderImportResponseDTO result = orderImportService.importOrders(body(csv), OrderImportService.TEXT_CSV, employeeId);
+
+        // Assert
+        assertEquals(0, result.getImportedOrders());
+        assertEquals(1, result.getFailedOrders());
+        assertEquals(List.of("FAILED", "FAILED"), result.getRows().stream().map(row -> row.getStatus()).toList());
+        assertTrue(result.getRows().get(0).getMessage().startsWith("Line 3: Invalid row"));
+        verify(orderService, never()).create(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o pedido quando linhas da mesma referência divergem nos dados do pedido")
+    void importOrders_ShouldFailOrder_WhenOrderFieldsConflict() {
+        // Arrange
+        String ndjson = """
+                {"reference":"A-1","customerId":1,"expectedPickupDate":"2030-03-28T10:00:00","discount":5.00,"sizeId":1,"flavor1Id":1,"quantity":2}
+                {"reference":"A-1","customerId":1,"discount":5.0,"sizeId":1,"flavor1Id":2,"quantity":1}
+                {"reference":"A-1","customerId":2,"sizeId":1,"flavor1Id":3,"quantity":1}
+                """;
+
+        // Act
+        OrderImportResponseDTO result = orderImportService.importOrders(body(ndjson), OrderImportService.APPLICATION_NDJSON, employeeId);
+
+        // Assert
+        assertEquals(0, result.getImportedOrders());
+        assertEquals(1, result.getFailedOrders());
+        assertEquals("Line 3: customerId differs from earlier rows of reference A-1", result.getRows().get(0).getMessage());
+        verify(orderService, never()).create(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para formato não suportado")
+    void importOrders_ShouldThrowIllegalArgumentException_WhenFormatIsUnsupported() {
+        assertThrows(IllegalArgumentException.class,
+                () -> orderImportService.importOrders(body("{}"), MediaType.APPLICATION_JSON, employeeId));
+    }
+
+    /**
+     * NDJSON input with one single-row order per reference, generated as it is read.
+     */
+    private static final class GeneratedRows extends InputStream {
+
+        private final int orders;
+        private int produced;
+        private byte[] line = new byte[0];
+        private int position;
+
+        private GeneratedRows(int orders) {
+            this.orders = orders;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length) {
+                if (produced == orders) {
+                    return -1;
+                }
+                line = ("{\"reference\":\"R-" + produced + "\",\"customerId\":1,\"expectedPickupDate\":\"2030-03-28T10:00:00\","
+                        + "\"sizeId\":1,\"flavor1Id\":1,\"quantity\":1}\n").getBytes(StandardCharsets.UTF_8);
+                position = 0;
+                produced++;
+            }
+            return line[position++] & 0xff;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.dto.request.OrderRequestDTO;
+import com.chocolog.api.model.*;
+import com.chocolog.api.repository.*;
+import com.chocolog.api.security.AppUserDetails;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts JDBC statements per created order with inserts batched, next to the per-item baseline where every row is
+ * sent as its own statement, as it was with IDENTITY ids. The baseline turns JDBC batching off for the session;
+ * pooled sequence calls are the same in both runs. Orders are created by an authenticated employee so their audit
+ * rows are written too. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-insert-benchmark;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Benchmark de inserção de pedidos")
+public class OrderInsertBenchmarkTest {
+
+    private static final int ORDERS = 200;
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private SizeRepository sizeRepository;
+    @Autowired
+    private FlavorRepository flavorRepository;
+    @Autowired
+    private ProductPriceRepository productPriceRepository;
+    @Autowired
+    private StockRepository stockRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Keeps the rollup refresher thread from adding its statements to the shared statistics.
+    @MockBean
+    private DailySalesRollupService dailySalesRollupService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve medir round trips por pedido criado com e sem inserções em lote")
+    void create_ShouldReportStatementsPerOrder_ForPerItemAndBatchedInserts() {
+        // Arrange
+        Customer customer = customerRepository.save(Customer.builder().name("Revenda Benchmark").phone("11999999999").isReseller(true).build());
+        Employee employee = employeeRepository.save(Employee.builder().name("Benchmark").login("benchmark").passwordHash("x").role(Role.ADMIN).build());
+        Size size = sizeRepository.save(Size.builder().name("350g").build());
+        AppUserDetails userDetails = new AppUserDetails(employee);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        List<Flavor> flavors = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            Flavor flavor = flavorRepository.save(Flavor.builder().name("Sabor " + i).build());
+            productPriceRepository.save(ProductPrice.builder().flavor(flavor).size(size)
+                    .salePrice(new BigDecimal("50.00")).costPrice(new BigDecimal("20.00")).build());
+            stockRepository.save(Stock.builder().flavor(flavor).size(size)
+                    .totalQuantity(ORDERS * 10).remainingQuantity(ORDERS * 10).build());
+            flavors.add(flavor);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Runnable createOrder = () -> orderService.create(customer.getId(), buildOrder(flavors, size), employee.getId());
+        createOrder.run();
+
+        // Act
+        Measurement perItem = measure(statistics, () -> transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            createOrder.run();
+        }));
+        Measurement batched = measure(statistics, createOrder);
+
+        // Assert
+        System.out.printf("Created %d orders with %d items each.%n", ORDERS, ITEMS_PER_ORDER);
+        System.out.printf("Per-item inserts: %d ms, %.2f statements/order, %d audit rows.%n",
+                perItem.millis(), perItem.statementsPerOrder(), perItem.auditInserts());
+        System.out.printf("Batched inserts:  %d ms, %.2f statements/order, %d audit rows.%n",
+                batched.millis(), batched.statementsPerOrder(), batched.auditInserts());
+
+        long expectedInserts = (long) ORDERS * (ITEMS_PER_ORDER + 2);
+        assertTrue(batched.auditInserts() >= expectedInserts, "Every created order, item and charge should be audited.");
+        assertEquals(perItem.auditInserts(), batched.auditInserts());
+        assertEquals(expectedInserts + perItem.auditInserts(), perItem.entityInserts());
+        assertEquals(expectedInserts + batched.auditInserts(), batched.entityInserts());
+        assertTrue(batched.statementsPerOrder() < perItem.statementsPerOrder(),
+                "Batched inserts should prepare fewer statements per order than per-item inserts.");
+    }
+
+    private Measurement measure(Statistics statistics, Runnable createOrder) {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < ORDERS; i++) {
+            createOrder.run();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new Measurement(elapsedMillis, (double) statistics.getPrepareStatementCount() / ORDERS,
+                statistics.getEntityInsertCount(), statistics.getEntityStatistics(Audit.class.getName()).getInsertCount());
+    }
+
+    private record Measurement(long millis, double statementsPerOrder, long entityInserts, long auditInserts) {
+    }
+
+    private OrderRequestDTO buildOrder(List<Flavor> flavors, Size size) {
+        OrderRequestDTO order = new OrderRequestDTO();
+        order.setExpectedPickupDate(LocalDateTime.now().plusDays(7));
+        order.setOrderItems(flavors.stream()
+                .map(flavor -> OrderItemRequestDTO.builder()
+                        .sizeId(size.getId())
+                        .flavor1Id(flavor.getId())
+                        .quantity(1)
+                        .build())
+                .toList());
+        return order;
+    }
+}
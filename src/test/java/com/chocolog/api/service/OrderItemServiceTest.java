@@ -1,14 +1,20 @@
 package com.chocolog.api.service;
 
+import com.chocolog.api.audit.AuditHelper;
+import com.chocolog.api.dto.request.OrderItemBulkStatusRequestDTO;
 import com.chocolog.api.dto.request.OrderItemPatchRequestDTO;
 import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.dto.request.ProductionBoardRequestDTO;
+import com.chocolog.api.dto.response.CursorPageResponseDTO;
 import com.chocolog.api.dto.response.OrderItemResponseDTO;
 import com.chocolog.api.mapper.OrderItemMapper;
 import com.chocolog.api.model.*;
 import com.chocolog.api.repository.FlavorRepository;
 import com.chocolog.api.repository.OrderItemRepository;
 import com.chocolog.api.repository.OrderRepository;
+import com.chocolog.api.repository.ProductionBoardQuery;
 import com.chocolog.api.repository.SizeRepository;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,14 +23,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +54,17 @@ public class OrderItemServiceTest {
     @Mock
     private ProductPriceService productPriceService;
     @Mock
+    private OrderCatalogResolver orderCatalogResolver;
+    @Mock
     private OrderService orderService;
     @Mock
+    private OrderAggregateRecalculator orderAggregateRecalculator;
+    @Mock
     private OrderItemMapper orderItemMapper;
+    @Mock
+    private AuditHelper auditHelper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private OrderItemService orderItemService;
@@ -97,6 +117,9 @@ public class OrderItemServiceTest {
                 .build();
 
         mockResponseDTO = mock(OrderItemResponseDTO.class);
+
+        lenient().when(orderAggregateRecalculator.recalculate(any(Order.class)))
+                .thenReturn(new OrderAggregateRecalculator.OrderRecalculation(false, false));
     }
 
     // --- Helpers de Mock ---
@@ -108,9 +131,13 @@ public class OrderItemServiceTest {
         when(orderItemRepository.findByIdAndOrder_Id(itemId, orderId)).thenReturn(Optional.of(mockItem));
     }
 
-    private void mockMetadataFinds() {
-        when(sizeRepository.findById(sizeId)).thenReturn(Optional.of(mockSize));
-        when(flavorRepository.findById(flavor1Id)).thenReturn(Optional.of(mockFlavor1));
+    private void mockCatalog() {
+        OrderCatalog catalog = new OrderCatalog(
+                Map.of(sizeId, mockSize),
+                Map.of(flavor1Id, mockFlavor1, flavor2Id, mockFlavor2),
+                productPriceService
+        );
+        when(orderCatalogResolver.resolve(any())).thenReturn(catalog);
     }
 
     // --- Testes para findAll ---
@@ -143,6 +170,81 @@ public class OrderItemServiceTest {
         verify(orderItemRepository).findAllAsDTOByOnDemandTrue();
     }
 
+    // --- Testes para findProductionBoard ---
+
+    @Test
+    @DisplayName("Deve paginar o quadro de produção por cursor aplicando os filtros")
+    void findProductionBoard_ShouldReturnPageAndCursor_WhenMoreItemsExist() {
+        // Arrange
+        LocalDateTime pickupDate = LocalDateTime.of(2026, 3, 28, 10, 0);
+        OrderItemResponseDTO first = mock(OrderItemResponseDTO.class);
+        OrderItemResponseDTO last = mock(OrderItemResponseDTO.class);
+        when(last.getId()).thenReturn(7L);
+        when(last.getExpectedPickupDate()).thenReturn(pickupDate);
+
+        ProductionBoardRequestDTO boardDTO = new ProductionBoardRequestDTO();
+        boardDTO.setStatus("pending");
+        boardDTO.setPickupFrom(LocalDate.of(2026, 3, 28));
+        boardDTO.setPrinted(false);
+        boardDTO.setSize(2);
+
+        ArgumentCaptor<ProductionBoardQuery> queryCaptor = ArgumentCaptor.forClass(ProductionBoardQuery.class);
+        when(orderItemRepository.findBoardItems(queryCaptor.capture())).thenReturn(List.of(first, last, mockResponseDTO));
+
+        // Act
+        CursorPageResponseDTO<OrderItemResponseDTO> result = orderItemService.findProductionBoard(boardDTO);
+
+        // Assert
+        assertTrue(result.isHasNext());
+        assertEquals(List.of(first, last), result.getItems());
+        assertEquals(new ProductionBoardCursor(pickupDate, 7L), ProductionBoardCursor.decode(result.getNextCursor()));
+
+        ProductionBoardQuery query = queryCaptor.getValue();
+        assertEquals(OrderStatus.PENDING, query.status());
+        assertEquals(pickupDate.toLocalDate().atStartOfDay(), query.pickupFrom());
+        assertEquals(Boolean.FALSE, query.printed());
+        assertEquals(3, query.limit());
+        assertNull(query.afterId());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a paginação a partir de item sem data de retirada prevista")
+    void findProductionBoard_ShouldResumeFromCursor_WhenLastItemHasNoPickupDate() {
+        // Arrange
+        OrderItemResponseDTO last = mock(OrderItemResponseDTO.class);
+        when(last.getId()).thenReturn(9L);
+        when(last.getExpectedPickupDate()).thenReturn(null);
+
+        ProductionBoardRequestDTO firstPage = new ProductionBoardRequestDTO();
+        firstPage.setSize(1);
+        ArgumentCaptor<ProductionBoardQuery> queryCaptor = ArgumentCaptor.forClass(ProductionBoardQuery.class);
+        when(orderItemRepository.findBoardItems(queryCaptor.capture())).thenReturn(List.of(last, mockResponseDTO), List.of());
+
+        // Act
+        String cursor = orderItemService.findProductionBoard(firstPage).getNextCursor();
+        ProductionBoardRequestDTO nextPage = new ProductionBoardRequestDTO();
+        nextPage.setCursor(cursor);
+        orderItemService.findProductionBoard(nextPage);
+
+        // Assert
+        assertEquals(new ProductionBoardCursor(null, 9L), ProductionBoardCursor.decode(cursor));
+        ProductionBoardQuery query = queryCaptor.getAllValues().get(1);
+        assertNull(query.afterPickupDate());
+        assertEquals(9L, query.afterId());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o cursor do quadro é inválido")
+    void findProductionBoard_ShouldThrowIllegalArgumentException_WhenCursorIsInvalid() {
+        // Arrange
+        ProductionBoardRequestDTO boardDTO = new ProductionBoardRequestDTO();
+        boardDTO.setCursor("bm90LWEtY3Vyc29y");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orderItemService.findProductionBoard(boardDTO));
+        verify(orderItemRepository, never()).findBoardItems(any());
+    }
+
     // --- Testes para addItemToOrder ---
 
     @Test
@@ -150,7 +252,7 @@ public class OrderItemServiceTest {
     void addItemToOrder_ShouldAddItemAndAdjustStock_WhenItemIsNotOnDemand() {
         // Arrange
         mockFindOrderAndValidate();
-        mockMetadataFinds();
+        mockCatalog();
         when(productPriceService.calculateUnitPrice(mockSize, mockFlavor1, null)).thenReturn(new BigDecimal("10.00"));
         when(orderItemRepository.save(any(OrderItem.class))).thenReturn(mockItem);
         when(orderItemMapper.toResponseDTO(mockItem)).thenReturn(mockResponseDTO);
@@ -161,13 +263,13 @@ public class OrderItemServiceTest {
         // Assert
         // Verifica se estoque foi debitado (-2)
         verify(orderService).adjustRemainingStock(mockFlavor1, mockSize, -2);
-        verify(orderService).recalculateOrderCharge(orderId);
-        verify(orderService).recalculateAndSaveOrderStatus(orderId);
+        verify(orderAggregateRecalculator).recalculate(mockOrder);
 
         ArgumentCaptor<OrderItem> itemCaptor = ArgumentCaptor.forClass(OrderItem.class);
         verify(orderItemRepository).save(itemCaptor.capture());
         assertFalse(itemCaptor.getValue().getOnDemand());
         assertEquals(OrderStatus.READY_FOR_PICKUP, itemCaptor.getValue().getStatus());
+        assertEquals(new BigDecimal("20.00"), itemCaptor.getValue().getTotalPrice());
     }
 
     @Test
@@ -177,10 +279,7 @@ public class OrderItemServiceTest {
         mockRequestDTO.setFlavor2Id(flavor2Id); // 2 sabores = OnDemand
 
         mockFindOrderAndValidate();
-        when(sizeRepository.findById(sizeId)).thenReturn(Optional.of(mockSize));
-        when(flavorRepository.findById(flavor1Id)).thenReturn(Optional.of(mockFlavor1));
-        when(flavorRepository.findById(flavor2Id)).thenReturn(Optional.of(mockFlavor2));
-
+        mockCatalog();
         when(productPriceService.calculateUnitPrice(mockSize, mockFlavor1, mockFlavor2)).thenReturn(new BigDecimal("15.00"));
         when(orderItemRepository.save(any(OrderItem.class))).thenReturn(mockItem);
         when(orderItemMapper.toResponseDTO(mockItem)).thenReturn(mockResponseDTO);
@@ -196,6 +295,23 @@ public class OrderItemServiceTest {
         verify(orderItemRepository).save(itemCaptor.capture());
         assertTrue(itemCaptor.getValue().getOnDemand());
         assertEquals(OrderStatus.PENDING, itemCaptor.getValue().getStatus());
+        assertEquals(new BigDecimal("15.00"), itemCaptor.getValue().getUnitPrice());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao adicionar item sem preço cadastrado")
+    void addItemToOrder_ShouldThrowException_WhenPriceIsMissing() {
+        // Arrange
+        mockFindOrderAndValidate();
+        mockCatalog();
+        when(productPriceService.calculateUnitPrice(mockSize, mockFlavor1, null))
+                .thenThrow(new EntityNotFoundException("Price not found for flavor id: " + flavor1Id + " and size id: " + sizeId));
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class,
+                () -> orderItemService.addItemToOrder(customerId, orderId, mockRequestDTO));
+        verify(orderService, never()).adjustRemainingStock(any(), any(), anyInt());
+        verify(orderItemRepository, never()).save(any());
     }
 
     @Test
@@ -232,7 +348,7 @@ public class OrderItemServiceTest {
         // originalQuantity(2) - newQuantity(3) = -1
         verify(orderService).adjustRemainingStock(mockFlavor1, mockSize, -1);
         assertEquals(3, mockItem.getQuantity());
-        verify(orderService).recalculateOrderCharge(orderId);
+        verify(orderAggregateRecalculator).recalculate(mockOrder);
     }
 
     @Test
@@ -330,6 +446,66 @@ public class OrderItemServiceTest {
         assertEquals(new BigDecimal("12.00"), mockItem.getUnitPrice());
     }
 
+    // --- Testes para updateStatuses ---
+
+    @Test
+    @DisplayName("Deve concluir itens em lote com um único UPDATE, baixa de estoque agregada e um recálculo por pedido")
+    void updateStatuses_ShouldApplySetBasedUpdate_WhenAllTransitionsAreValid() {
+        // Arrange
+        OrderItem secondItem = OrderItem.builder()
+                .id(11L)
+                .order(mockOrder)
+                .flavor1(mockFlavor1)
+                .size(mockSize)
+                .quantity(3)
+                .status(OrderStatus.READY_FOR_PICKUP)
+                .onDemand(false)
+                .build();
+        mockOrder.getOrderItems().add(secondItem);
+
+        when(orderRepository.findDistinctByOrderItems_IdIn(Set.of(itemId, 11L))).thenReturn(List.of(mockOrder));
+        when(orderRepository.findByIdIn(Set.of(orderId))).thenReturn(List.of(mockOrder));
+        when(orderItemMapper.toResponseDTO(any(OrderItem.class))).thenReturn(mockResponseDTO);
+
+        // Act
+        List<OrderItemResponseDTO> result = orderItemService.updateStatuses(
+                new OrderItemBulkStatusRequestDTO(List.of(itemId, 11L), "COMPLETED"));
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(orderService).adjustTotalStock(mockFlavor1, mockSize, -5);
+        verify(orderItemRepository).updateStatus(Set.of(itemId, 11L), OrderStatus.COMPLETED);
+        verify(auditHelper).saveBulkAudit(eq("OrderItem"), eq("UPDATE"), any());
+        verify(orderAggregateRecalculator, times(1)).recalculate(mockOrder);
+        verify(orderItemRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Não deve alterar nenhum item quando uma das transições é inválida")
+    void updateStatuses_ShouldThrowAndUpdateNothing_WhenAnyTransitionIsInvalid() {
+        // Arrange
+        when(orderRepository.findDistinctByOrderItems_IdIn(Set.of(itemId))).thenReturn(List.of(mockOrder));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orderItemService.updateStatuses(
+                new OrderItemBulkStatusRequestDTO(List.of(itemId), "PENDING")));
+        verify(orderItemRepository, never()).updateStatus(any(), any());
+        verify(orderService, never()).adjustTotalStock(any(), any(), anyInt());
+        verifyNoInteractions(auditHelper);
+    }
+
+    @Test
+    @DisplayName("Deve lançar EntityNotFoundException quando algum item não existe")
+    void updateStatuses_ShouldThrowEntityNotFoundException_WhenItemIsMissing() {
+        // Arrange
+        when(orderRepository.findDistinctByOrderItems_IdIn(Set.of(itemId, 99L))).thenReturn(List.of(mockOrder));
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> orderItemService.updateStatuses(
+                new OrderItemBulkStatusRequestDTO(List.of(itemId, 99L), "COMPLETED")));
+        verify(orderItemRepository, never()).updateStatus(any(), any());
+    }
+
     // --- Testes para deleteOrderItem ---
 
     @Test
@@ -347,7 +523,7 @@ public class OrderItemServiceTest {
         // Assert
         verify(orderService).adjustRemainingStock(mockFlavor1, mockSize, 2);
         verify(orderItemRepository).delete(mockItem);
-        verify(orderService).recalculateOrderCharge(orderId);
+        verify(orderAggregateRecalculator).recalculate(mockOrder);
         assertFalse(mockOrder.getOrderItems().contains(mockItem));
     }
 
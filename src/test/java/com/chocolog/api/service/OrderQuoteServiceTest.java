@@ -0,0 +1,112 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.dto.request.OrderQuoteRequestDTO;
+import com.chocolog.api.dto.response.OrderQuoteResponseDTO;
+import com.chocolog.api.model.Flavor;
+import com.chocolog.api.model.Size;
+import com.chocolog.api.repository.FlavorRepository;
+import com.chocolog.api.repository.SizeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para OrderQuoteService")
+public class OrderQuoteServiceTest {
+
+    @Mock
+    private SizeRepository sizeRepository;
+    @Mock
+    private FlavorRepository flavorRepository;
+    @Mock
+    private ProductPriceService productPriceService;
+    @Mock
+    private StockReservationLedger stockReservationLedger;
+
+    @InjectMocks
+    private OrderQuoteService orderQuoteService;
+
+    private Size mockSize;
+    private Flavor mockFlavor1;
+    private Flavor mockFlavor2;
+
+    @BeforeEach
+    void setUp() {
+        mockSize = Size.builder().id(5L).name("500g").build();
+        mockFlavor1 = Flavor.builder().id(1L).name("Brigadeiro").build();
+        mockFlavor2 = Flavor.builder().id(2L).name("Ninho").build();
+
+        when(sizeRepository.findAllById(any())).thenReturn(List.of(mockSize));
+        when(flavorRepository.findAllById(any())).thenReturn(List.of(mockFlavor1, mockFlavor2));
+    }
+
+    @Test
+    @DisplayName("Deve calcular preços, itens sob demanda, estoque e desconto sem reservar estoque")
+    void quote_ShouldPriceItemsAndCheckStock_WithoutReservingStock() {
+        // Arrange
+        when(productPriceService.calculateUnitPrice(mockSize, mockFlavor1, null)).thenReturn(new BigDecimal("10.00"));
+        when(productPriceService.calculateUnitPrice(mockSize, mockFlavor1, mockFlavor2)).thenReturn(new BigDecimal("11.00"));
+        when(stockReservationLedger.findAvailable(1L, 5L)).thenReturn(Optional.of(4));
+
+        OrderQuoteRequestDTO quoteDTO = new OrderQuoteRequestDTO();
+        quoteDTO.setDiscount(new BigDecimal("5.00"));
+        quoteDTO.setOrderItems(List.of(
+                item(null, 3),
+                item(2L, 1),
+                item(null, 2)));
+
+        // Act
+        OrderQuoteResponseDTO result = orderQuoteService.quote(quoteDTO);
+
+        // Assert
+        assertEquals(new BigDecimal("61.00"), result.getSubtotalAmount());
+        assertEquals(new BigDecimal("56.00"), result.getTotalAmount());
+        assertEquals("PENDING", result.getStatus());
+        assertFalse(result.isStockAvailable());
+
+        assertTrue(result.getItems().get(0).getStockAvailable());
+        assertTrue(result.getItems().get(1).isOnDemand());
+        assertNull(result.getItems().get(1).getAvailableStock());
+        assertEquals(1, result.getItems().get(2).getAvailableStock());
+        assertFalse(result.getItems().get(2).getStockAvailable());
+
+        verify(stockReservationLedger, never()).tryReserve(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve lançar EntityNotFoundException quando o tamanho não existe")
+    void quote_ShouldThrowEntityNotFoundException_WhenSizeIsMissing() {
+        // Arrange
+        when(sizeRepository.findAllById(any())).thenReturn(List.of());
+        OrderQuoteRequestDTO quoteDTO = new OrderQuoteRequestDTO();
+        quoteDTO.setOrderItems(List.of(item(null, 1)));
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> orderQuoteService.quote(quoteDTO));
+        verifyNoInteractions(productPriceService);
+    }
+
+    private OrderItemRequestDTO item(Long flavor2Id, int quantity) {
+        return OrderItemRequestDTO.builder()
+                .sizeId(5L)
+                .flavor1Id(1L)
+                .flavor2Id(flavor2Id)
+                .quantity(quantity)
+                .build();
+    }
+}
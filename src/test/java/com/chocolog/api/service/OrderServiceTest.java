@@ -1,4 +1,192 @@
 package com.chocolog.api.service;
 
+import com.chocolog.api.dto.request.OrderPatchRequestDTO;
+import com.chocolog.api.dto.request.OrderSearchRequestDTO;
+import com.chocolog.api.dto.response.CursorPageResponseDTO;
+import com.chocolog.api.dto.response.OrderResponseDTO;
+import com.chocolog.api.mapper.OrderMapper;
+import com.chocolog.api.model.ChargeStatus;
+import com.chocolog.api.model.Order;
+import com.chocolog.api.model.OrderItem;
+import com.chocolog.api.model.OrderStatus;
+import com.chocolog.api.repository.ChargeRepository;
+import com.chocolog.api.repository.OrderRepository;
+import com.chocolog.api.repository.OrderSearchQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para OrderService")
 public class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private ChargeRepository chargeRepository;
+    @Mock
+    private OrderMapper orderMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private Order order5;
+    private Order order4;
+    private OrderSearchRequestDTO searchDTO;
+
+    @BeforeEach
+    void setUp() {
+        order5 = Order.builder().id(5L).creationDate(LocalDateTime.of(2025, 3, 10, 9, 0)).build();
+        order4 = Order.builder().id(4L).creationDate(LocalDateTime.of(2025, 3, 9, 15, 30)).build();
+
+        searchDTO = new OrderSearchRequestDTO();
+        searchDTO.setSize(2);
+    }
+
+    // --- Testes para search ---
+
+    @Test
+    @DisplayName("Deve retornar página na ordem do índice e cursor para a próxima página")
+    void search_ShouldReturnPageAndNextCursor_WhenMoreRowsExist() {
+        // Arrange
+        searchDTO.setStatus("pending");
+        searchDTO.setChargeStatus("UNPAID");
+        searchDTO.setCreatedFrom(LocalDate.of(2025, 3, 1));
+        when(orderRepository.searchIds(any(OrderSearchQuery.class))).thenReturn(List.of(5L, 4L, 3L));
+        when(orderRepository.findByIdIn(List.of(5L, 4L))).thenReturn(List.of(order4, order5));
+        OrderResponseDTO dto5 = mock(OrderResponseDTO.class);
+        OrderResponseDTO dto4 = mock(OrderResponseDTO.class);
+        when(orderMapper.toResponseDTO(order5)).thenReturn(dto5);
+        when(orderMapper.toResponseDTO(order4)).thenReturn(dto4);
+
+        // Act
+        CursorPageResponseDTO<OrderResponseDTO> result = orderService.search(searchDTO);
+
+        // Assert
+        assertEquals(List.of(dto5, dto4), result.getItems());
+        assertTrue(result.isHasNext());
+
+        OrderSearchCursor cursor = OrderSearchCursor.decode(result.getNextCursor(), "creationDate");
+        assertEquals(4L, cursor.id());
+        assertEquals(order4.getCreationDate(), cursor.value());
+
+        ArgumentCaptor<OrderSearchQuery> queryCaptor = ArgumentCaptor.forClass(OrderSearchQuery.class);
+        verify(orderRepository).searchIds(queryCaptor.capture());
+        OrderSearchQuery query = queryCaptor.getValue();
+        assertEquals(3, query.limit());
+        assertEquals(OrderStatus.PENDING, query.status());
+        assertEquals(ChargeStatus.UNPAID, query.chargeStatus());
+        assertEquals(LocalDate.of(2025, 3, 1).atStartOfDay(), query.createdFrom());
+        assertFalse(query.ascending());
+        assertNull(query.afterId());
+        verify(chargeRepository, never()).findWithPaymentsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar pedidos excluídos entre a busca dos ids e o carregamento")
+    void search_ShouldSkipOrdersDeletedMeanwhile_AndKeepCursorOnLastLoadedOrder() {
+        // Arrange
+        when(orderRepository.searchIds(any(OrderSearchQuery.class))).thenReturn(List.of(5L, 4L, 3L));
+        when(orderRepository.findByIdIn(List.of(5L, 4L))).thenReturn(List.of(order5));
+        OrderResponseDTO dto5 = mock(OrderResponseDTO.class);
+        when(orderMapper.toResponseDTO(order5)).thenReturn(dto5);
+
+        // Act
+        CursorPageResponseDTO<OrderResponseDTO> result = orderService.search(searchDTO);
+
+        // Assert
+        assertEquals(List.of(dto5), result.getItems());
+        assertTrue(result.isHasNext());
+        assertEquals(5L, OrderSearchCursor.decode(result.getNextCursor(), "creationDate").id());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor informado")
+    void search_ShouldApplyKeyset_WhenCursorIsGiven() {
+        // Arrange
+        searchDTO.setCursor(new OrderSearchCursor("creationDate", order4.getCreationDate(), 4L).encode());
+        when(orderRepository.searchIds(any(OrderSearchQuery.class))).thenReturn(List.of());
+
+        // Act
+        CursorPageResponseDTO<OrderResponseDTO> result = orderService.search(searchDTO);
+
+        // Assert
+        assertTrue(result.getItems().isEmpty());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+
+        ArgumentCaptor<OrderSearchQuery> queryCaptor = ArgumentCaptor.forClass(OrderSearchQuery.class);
+        verify(orderRepository).searchIds(queryCaptor.capture());
+        assertEquals(4L, queryCaptor.getValue().afterId());
+        assertEquals(order4.getCreationDate(), queryCaptor.getValue().afterValue());
+        verify(orderRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para cursor de outra ordenação")
+    void search_ShouldThrowIllegalArgumentException_WhenCursorSortDiffers() {
+        // Arrange
+        searchDTO.setSort("expectedPickupDate");
+        searchDTO.setCursor(new OrderSearchCursor("creationDate", order4.getCreationDate(), 4L).encode());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orderService.search(searchDTO));
+        verify(orderRepository, never()).searchIds(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para cursor inválido")
+    void search_ShouldThrowIllegalArgumentException_WhenCursorIsMalformed() {
+        // Arrange
+        searchDTO.setCursor("não-é-um-cursor");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orderService.search(searchDTO));
+    }
+
+    // --- Testes para update ---
+
+    @Test
+    @DisplayName("Deve publicar ORDER_ITEM_UPDATED para cada item que mudou de status ao cancelar o pedido")
+    void update_ShouldPublishItemUpdatedEvents_WhenOrderIsCancelled() {
+        // Arrange
+        Order order = Order.builder().id(7L).status(OrderStatus.PENDING).build();
+        OrderItem pending = OrderItem.builder().id(70L).order(order).onDemand(true).status(OrderStatus.PENDING).build();
+        OrderItem cancelled = OrderItem.builder().id(71L).order(order).onDemand(true).status(OrderStatus.CANCELLED).build();
+        order.setOrderItems(new ArrayList<>(List.of(pending, cancelled)));
+        OrderPatchRequestDTO patchDTO = new OrderPatchRequestDTO();
+        patchDTO.setStatus("CANCELLED");
+        when(orderRepository.findByIdAndCustomerId(7L, 1L)).thenReturn(Optional.of(order));
+        when(orderRepository.save(order)).thenReturn(order);
+
+        // Act
+        orderService.update(7L, 1L, patchDTO);
+
+        // Assert
+        ArgumentCaptor<OrderChangeEvent> eventCaptor = ArgumentCaptor.forClass(OrderChangeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        OrderChangeEvent itemEvent = eventCaptor.getAllValues().get(0);
+        assertEquals(OrderChangeEvent.Type.ORDER_ITEM_UPDATED, itemEvent.type());
+        assertEquals(70L, itemEvent.orderItemId());
+        assertEquals("CANCELLED", itemEvent.status());
+        assertEquals(OrderChangeEvent.Type.ORDER_UPDATED, eventCaptor.getAllValues().get(1).type());
+    }
 }
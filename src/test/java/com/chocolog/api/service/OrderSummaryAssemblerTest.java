@@ -0,0 +1,99 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.OrderItemResponseDTO;
+import com.chocolog.api.dto.response.OrderResponseDTO;
+import com.chocolog.api.dto.response.PaymentResponseDTO;
+import com.chocolog.api.model.ChargeStatus;
+import com.chocolog.api.repository.OrderItemRepository;
+import com.chocolog.api.repository.OrderSummaryRow;
+import com.chocolog.api.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para OrderSummaryAssembler")
+public class OrderSummaryAssemblerTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @InjectMocks
+    private OrderSummaryAssembler orderSummaryAssembler;
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    @Test
+    @DisplayName("Deve montar pedidos com itens, cobrança e valor devido a partir das projeções")
+    void assemble_ShouldBuildOrdersFromRows() {
+        // Arrange
+        OrderSummaryRow paidRow = row(1L, 10L, new BigDecimal("100.00"));
+        OrderSummaryRow noChargeRow = row(2L, null, null);
+        when(orderItemRepository.findAllAsDTOByOrderIdIn(List.of(1L, 2L))).thenReturn(List.of(item(100L, 1L), item(101L, 1L)));
+        when(paymentRepository.findAllAsDTOByChargeIdIn(List.of(10L))).thenReturn(List.of(
+                new PaymentResponseDTO(1000L, 10L, 3L, new BigDecimal("30.00"), CREATED, "PIX")
+        ));
+
+        // Act
+        List<OrderResponseDTO> result = orderSummaryAssembler.assemble(List.of(paidRow, noChargeRow));
+
+        // Assert
+        assertEquals(2, result.size());
+        OrderResponseDTO first = result.get(0);
+        assertEquals(1L, first.getId());
+        assertEquals("Cliente 1", first.getCustomer().getName());
+        assertEquals("ADMIN", first.getEmployee().getRole());
+        assertEquals(2, first.getOrderItems().size());
+        assertEquals(10L, first.getCharges().getId());
+        assertEquals(CREATED, first.getCharges().getDate());
+        assertEquals(new BigDecimal("70.00"), first.getCharges().getDueAmount());
+        assertEquals(1, first.getCharges().getPayments().size());
+
+        OrderResponseDTO second = result.get(1);
+        assertTrue(second.getOrderItems().isEmpty());
+        assertNull(second.getCharges());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar itens nem pagamentos quando não há pedidos")
+    void assemble_ShouldSkipQueries_WhenRowsAreEmpty() {
+        // Act
+        List<OrderResponseDTO> result = orderSummaryAssembler.assemble(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(orderItemRepository, never()).findAllAsDTOByOrderIdIn(any());
+        verify(paymentRepository, never()).findAllAsDTOByChargeIdIn(any());
+    }
+
+    private OrderSummaryRow row(Long orderId, Long chargeId, BigDecimal totalAmount) {
+        return new OrderSummaryRow(
+                orderId, orderId, "Cliente " + orderId, "11999999999", false, null,
+                3L, "Equipe", "equipe", "ADMIN",
+                CREATED, CREATED.plusDays(2), null, "PENDING", null,
+                chargeId, totalAmount, chargeId != null ? BigDecimal.ZERO : null, totalAmount,
+                chargeId != null ? ChargeStatus.UNPAID : null
+        );
+    }
+
+    private OrderItemResponseDTO item(Long itemId, Long orderId) {
+        return new OrderItemResponseDTO(
+                itemId, orderId, 1L, "1Kg", 1L, "Brigadeiro", null, null,
+                1, new BigDecimal("50.00"), new BigDecimal("50.00"), false, false, "PENDING", null,
+                orderId, "Cliente " + orderId, "11999999999", CREATED.plusDays(2)
+        );
+    }
+}
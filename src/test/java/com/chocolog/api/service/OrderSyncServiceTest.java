@@ -0,0 +1,131 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.sync.SyncOrderDTO;
+import com.chocolog.api.dto.response.sync.SyncResponseDTO;
+import com.chocolog.api.repository.OrderSyncRepository;
+import com.chocolog.api.repository.SyncPosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para OrderSyncService")
+public class OrderSyncServiceTest {
+
+    @Mock
+    private OrderSyncRepository orderSyncRepository;
+    @Mock
+    private WriteTransactionTracker writeTransactionTracker;
+
+    @InjectMocks
+    private OrderSyncService orderSyncService;
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2026, 3, 20, 10, 0);
+    private final LocalDateTime databaseNow = baseTime.plusMinutes(5);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderSyncService, "settleMillis", 2000L);
+        lenient().when(orderSyncRepository.currentTimestamp()).thenReturn(databaseNow);
+        lenient().when(writeTransactionTracker.oldestOpenSince()).thenReturn(Optional.empty());
+        lenient().when(orderSyncRepository.findOrderItemsChangedAfter(any(), any(), anyInt())).thenReturn(List.of());
+        lenient().when(orderSyncRepository.findChargesChangedAfter(any(), any(), anyInt())).thenReturn(List.of());
+        lenient().when(orderSyncRepository.findPaymentsChangedAfter(any(), any(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve limitar a página e avançar o cursor até o último registro entregue")
+    void findChangesSince_ShouldTrimPageAndAdvanceCursor_WhenMoreRowsExist() {
+        // Arrange
+        when(orderSyncRepository.findOrdersChangedAfter(eq(SyncPosition.START), any(LocalDateTime.class), eq(3)))
+                .thenReturn(List.of(order(1L, baseTime), order(2L, baseTime), order(3L, baseTime.plusSeconds(1))));
+
+        // Act
+        SyncResponseDTO result = orderSyncService.findChangesSince(null, 2);
+
+        // Assert
+        assertTrue(result.isHasMore());
+        assertEquals(2, result.getOrders().size());
+        OrderSyncCursor next = OrderSyncCursor.decode(result.getNextCursor());
+        assertEquals(new SyncPosition(baseTime, 2L), next.orders());
+        assertEquals(SyncPosition.START, next.payments());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor recebido e incluir registros excluídos")
+    void findChangesSince_ShouldResumeFromCursor_AndReturnDeletedRows() {
+        // Arrange
+        SyncPosition position = new SyncPosition(baseTime, 2L);
+        String cursor = new OrderSyncCursor(position, SyncPosition.START, SyncPosition.START, SyncPosition.START).encode();
+        SyncOrderDTO deleted = new SyncOrderDTO(3L, 1L, 1L, baseTime, baseTime, null, "CANCELLED", null, false, baseTime.plusSeconds(1));
+        when(orderSyncRepository.findOrdersChangedAfter(eq(position), any(LocalDateTime.class), eq(201)))
+                .thenReturn(List.of(deleted));
+
+        // Act
+        SyncResponseDTO result = orderSyncService.findChangesSince(cursor, null);
+
+        // Assert
+        assertFalse(result.isHasMore());
+        assertFalse(result.getOrders().get(0).isActive());
+        assertEquals(new SyncPosition(baseTime.plusSeconds(1), 3L), OrderSyncCursor.decode(result.getNextCursor()).orders());
+    }
+
+    @Test
+    @DisplayName("Deve ler até o relógio do banco menos a margem quando não há transações abertas")
+    void findChangesSince_ShouldStopAtDatabaseClockMinusMargin_WhenNoTransactionIsOpen() {
+        // Arrange
+        when(orderSyncRepository.findOrdersChangedAfter(any(), any(), anyInt())).thenReturn(List.of());
+
+        // Act
+        orderSyncService.findChangesSince(null, 10);
+
+        // Assert
+        verify(orderSyncRepository).findOrdersChangedAfter(SyncPosition.START, databaseNow.minusSeconds(2), 11);
+    }
+
+    @Test
+    @DisplayName("Deve parar antes da transação de escrita aberta mais antiga")
+    void findChangesSince_ShouldStopBeforeOldestOpenTransaction_WhenOneIsStillOpen() {
+        // Arrange
+        when(writeTransactionTracker.oldestOpenSince()).thenReturn(Optional.of(LocalDateTime.now().minusSeconds(30)));
+        when(orderSyncRepository.findOrdersChangedAfter(any(), any(), anyInt())).thenReturn(List.of());
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        // Act
+        orderSyncService.findChangesSince(null, 10);
+
+        // Assert
+        verify(orderSyncRepository).findOrdersChangedAfter(eq(SyncPosition.START), until.capture(), eq(11));
+        LocalDateTime expected = databaseNow.minusSeconds(32);
+        assertTrue(Duration.between(expected, until.getValue()).abs().toMillis() < 1000,
+                "Expected about " + expected + " but was " + until.getValue());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o cursor é inválido")
+    void findChangesSince_ShouldThrowIllegalArgumentException_WhenCursorIsInvalid() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orderSyncService.findChangesSince("bm90LWEtY3Vyc29y", 10));
+        verifyNoInteractions(orderSyncRepository);
+    }
+
+    private SyncOrderDTO order(Long id, LocalDateTime updatedAt) {
+        return new SyncOrderDTO(id, 1L, 1L, baseTime, baseTime, null, "PENDING", null, true, updatedAt);
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +42,10 @@ public class PaymentServiceTest {
     private EmployeeRepository employeeRepository;
     @Mock
     private PaymentMapper paymentMapper;
+    @Mock
+    private DailySalesRollupService dailySalesRollupService;
+    @Mock
+    private ReportCache reportCache;
 
     @InjectMocks
     private PaymentService paymentService;
@@ -140,16 +145,20 @@ public class PaymentServiceTest {
         when(paymentRepository.save(any(Payment.class))).thenReturn(mockPayment);
         when(paymentMapper.toResponseDTO(mockPayment)).thenReturn(mockResponseDTO);
 
+        when(chargeRepository.lockPaidAmount(chargeId)).thenReturn(new BigDecimal("50.00"));
         // Act
         PaymentResponseDTO result = paymentService.addPayment(customerId, orderId, employeeId, mockRequestDTO);
 
         // Assert
+        verify(chargeRepository).addToPaidAmount(chargeId, new BigDecimal("50.00"));
         assertNotNull(result);
         assertEquals(mockResponseDTO.getId(), result.getId());
         assertEquals(ChargeStatus.PARTIAL, mockCharge.getStatus());
-        assertTrue(mockCharge.getPayments().contains(mockPayment));
+        assertEquals(new BigDecimal("50.00"), mockCharge.getPaidAmount());
         verify(chargeRepository, times(1)).save(mockCharge);
         verify(paymentRepository, times(1)).save(any(Payment.class));
+        verify(dailySalesRollupService, times(1)).markOrderChanged(orderId);
+        verify(reportCache, times(1)).evictDaysAfterCommit(anyList());
     }
 
     @Test
@@ -170,16 +179,37 @@ public class PaymentServiceTest {
         when(paymentRepository.save(any(Payment.class))).thenReturn(mockPayment);
         when(paymentMapper.toResponseDTO(mockPayment)).thenReturn(mockResponseDTO);
 
+        when(chargeRepository.lockPaidAmount(chargeId)).thenReturn(new BigDecimal("100.00"));
         // Act
         PaymentResponseDTO result = paymentService.addPayment(customerId, orderId, employeeId, fullPaymentDTO);
 
         // Assert
+        verify(chargeRepository).addToPaidAmount(chargeId, new BigDecimal("100.00"));
         assertNotNull(result);
         assertEquals(ChargeStatus.PAID, mockCharge.getStatus());
+        assertEquals(new BigDecimal("100.00"), mockCharge.getPaidAmount());
         verify(chargeRepository, times(1)).save(mockCharge);
         verify(paymentRepository, times(1)).save(any(Payment.class));
     }
 
+    @Test
+    @DisplayName("Deve derivar o status do total gravado no banco, incluindo pagamentos concorrentes")
+    void addPayment_ShouldResolveStatusFromStoredPaidAmount_WhenAnotherPaymentLandedConcurrently() {
+        // Arrange
+        mockFindChargeOrFail();
+        mockFindEmployeeOrFail();
+        when(paymentRepository.save(any(Payment.class))).thenReturn(mockPayment);
+        when(chargeRepository.lockPaidAmount(chargeId)).thenReturn(new BigDecimal("100.00"));
+
+        // Act
+        paymentService.addPayment(customerId, orderId, employeeId, mockRequestDTO);
+
+        // Assert
+        verify(chargeRepository).addToPaidAmount(chargeId, new BigDecimal("50.00"));
+        assertEquals(new BigDecimal("100.00"), mockCharge.getPaidAmount());
+        assertEquals(ChargeStatus.PAID, mockCharge.getStatus());
+    }
+
     @Test
     @DisplayName("Deve lançar IllegalStateException ao tentar pagar cobrança já PAGA")
     void addPayment_ShouldThrowIllegalStateException_WhenChargeIsAlreadyPaid() {
@@ -193,6 +223,7 @@ public class PaymentServiceTest {
 
         verify(paymentRepository, never()).save(any());
         verify(chargeRepository, never()).save(any());
+        verify(dailySalesRollupService, never()).markOrderChanged(any());
     }
 
     @Test
@@ -224,17 +255,22 @@ public class PaymentServiceTest {
     @DisplayName("Deve atualizar múltiplos campos do pagamento")
     void updatePayment_ShouldUpdateAllFields_WhenAllFieldsAreProvided() {
         // Arrange
+        mockCharge.setPaidAmount(new BigDecimal("50.00"));
         mockFindChargeOrFail();
         mockFindPaymentOrFail();
         when(paymentRepository.save(any(Payment.class))).thenReturn(mockPayment);
         when(paymentMapper.toResponseDTO(mockPayment)).thenReturn(mockResponseDTO);
 
+        when(chargeRepository.lockPaidAmount(chargeId)).thenReturn(new BigDecimal("75.00"));
         // Act
         paymentService.updatePayment(customerId, orderId, paymentId, mockPatchDTO);
 
         // Assert
+        verify(chargeRepository).addToPaidAmount(chargeId, new BigDecimal("25.00"));
         assertEquals(mockPatchDTO.getPaidAmount(), mockPayment.getPaidAmount());
         assertEquals(mockPatchDTO.getPaymentMethod(), mockPayment.getPaymentMethod());
+        assertEquals(new BigDecimal("75.00"), mockCharge.getPaidAmount());
+        assertEquals(ChargeStatus.PARTIAL, mockCharge.getStatus());
         verify(paymentRepository, times(1)).save(mockPayment);
         verify(chargeRepository, times(1)).save(mockCharge);
     }
@@ -252,10 +288,12 @@ public class PaymentServiceTest {
         mockFindPaymentOrFail();
         when(paymentRepository.save(any(Payment.class))).thenReturn(mockPayment);
 
+        when(chargeRepository.lockPaidAmount(chargeId)).thenReturn(BigDecimal.ZERO);
         // Act
         paymentService.updatePayment(customerId, orderId, paymentId, nullPatchDTO);
 
         // Assert
+        verify(chargeRepository, never()).addToPaidAmount(any(), any());
         assertEquals(originalAmount, mockPayment.getPaidAmount());
         assertEquals(originalMethod, mockPayment.getPaymentMethod());
         verify(paymentRepository, times(1)).save(mockPayment);
@@ -270,16 +308,20 @@ public class PaymentServiceTest {
                 .paidAmount(new BigDecimal("100.00"))
                 .build();
 
+        mockCharge.setPaidAmount(new BigDecimal("50.00"));
         mockFindChargeOrFail();
         mockFindPaymentOrFail();
         when(paymentRepository.save(any(Payment.class))).thenReturn(mockPayment);
 
+        when(chargeRepository.lockPaidAmount(chargeId)).thenReturn(new BigDecimal("100.00"));
         // Act
         paymentService.updatePayment(customerId, orderId, paymentId, fullPaymentPatch);
 
         // Assert
+        verify(chargeRepository).addToPaidAmount(chargeId, new BigDecimal("50.00"));
         assertEquals(new BigDecimal("100.00"), mockPayment.getPaidAmount());
-        assertEquals(ChargeStatus.UNPAID, mockCharge.getStatus());
+        assertEquals(new BigDecimal("100.00"), mockCharge.getPaidAmount());
+        assertEquals(ChargeStatus.PAID, mockCharge.getStatus());
         verify(chargeRepository, times(1)).save(mockCharge);
     }
 
@@ -301,47 +343,45 @@ public class PaymentServiceTest {
     @DisplayName("Deve deletar o pagamento e atualizar status para NÃO PAGO")
     void deletePayment_ShouldDeletePaymentAndUpdateChargeStatusToUnpaid() {
         // Arrange
-        mockCharge.getPayments().add(mockPayment);
+        mockCharge.setPaidAmount(new BigDecimal("50.00"));
         mockCharge.setStatus(ChargeStatus.PARTIAL);
 
         mockFindChargeOrFail();
         mockFindPaymentOrFail();
         doNothing().when(paymentRepository).delete(mockPayment);
 
+        when(chargeRepository.lockPaidAmount(chargeId)).thenReturn(new BigDecimal("0.00"));
         // Act
         paymentService.deletePayment(customerId, orderId, paymentId);
 
         // Assert
+        verify(chargeRepository).addToPaidAmount(chargeId, new BigDecimal("-50.00"));
         verify(paymentRepository, times(1)).delete(mockPayment);
-        assertFalse(mockCharge.getPayments().contains(mockPayment));
+        assertEquals(0, BigDecimal.ZERO.compareTo(mockCharge.getPaidAmount()));
         assertEquals(ChargeStatus.UNPAID, mockCharge.getStatus());
         verify(chargeRepository, times(1)).save(mockCharge);
+        verify(dailySalesRollupService, times(1)).markOrderChanged(orderId);
     }
 
     @Test
     @DisplayName("Deve deletar um pagamento e manter status PARCIAL se houver outros")
     void deletePayment_ShouldDeletePaymentAndKeepStatusPartial() {
         // Arrange
-        Payment anotherPayment = Payment.builder()
-                .id(2L)
-                .paidAmount(new BigDecimal("25.00"))
-                .build();
-
-        mockCharge.getPayments().add(mockPayment);
-        mockCharge.getPayments().add(anotherPayment);
+        mockCharge.setPaidAmount(new BigDecimal("75.00"));
         mockCharge.setStatus(ChargeStatus.PARTIAL);
 
         mockFindChargeOrFail();
         mockFindPaymentOrFail();
         doNothing().when(paymentRepository).delete(mockPayment);
 
+        when(chargeRepository.lockPaidAmount(chargeId)).thenReturn(new BigDecimal("25.00"));
         // Act
         paymentService.deletePayment(customerId, orderId, paymentId);
 
         // Assert
+        verify(chargeRepository).addToPaidAmount(chargeId, new BigDecimal("-50.00"));
         verify(paymentRepository, times(1)).delete(mockPayment);
-        assertFalse(mockCharge.getPayments().contains(mockPayment));
-        assertTrue(mockCharge.getPayments().contains(anotherPayment));
+        assertEquals(new BigDecimal("25.00"), mockCharge.getPaidAmount());
         assertEquals(ChargeStatus.PARTIAL, mockCharge.getStatus());
         verify(chargeRepository, times(1)).save(mockCharge);
     }
@@ -359,5 +399,6 @@ public class PaymentServiceTest {
 
         verify(paymentRepository, never()).delete(any());
         verify(chargeRepository, never()).save(any());
+        verify(chargeRepository, never()).addToPaidAmount(any(), any());
     }
 }
\ No newline at end of file
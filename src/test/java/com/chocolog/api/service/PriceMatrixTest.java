@@ -0,0 +1,77 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.repository.ProductPriceRepository;
+import com.chocolog.api.repository.SalePriceRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para PriceMatrix")
+public class PriceMatrixTest {
+
+    @Mock
+    private ProductPriceRepository productPriceRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceMatrix priceMatrix;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        priceMatrix = new PriceMatrix(productPriceRepository, meterRegistry);
+        ReflectionTestUtils.setField(priceMatrix, "ttlMillis", 600000L);
+    }
+
+    @Test
+    @DisplayName("Deve montar a matriz uma vez e responder as consultas seguintes da memória")
+    void findSalePriceCents_ShouldLoadOnce_WhenSnapshotIsValid() {
+        // Arrange
+        when(productPriceRepository.findAllSalePrices()).thenReturn(List.of(
+                new SalePriceRow(7L, 3L, new BigDecimal("45.90")),
+                new SalePriceRow(2L, 3L, new BigDecimal("39.90")),
+                new SalePriceRow(2L, 8L, new BigDecimal("120.00"))));
+
+        // Act
+        long first = priceMatrix.findSalePriceCents(7L, 3L);
+        long second = priceMatrix.findSalePriceCents(2L, 8L);
+        long missing = priceMatrix.findSalePriceCents(7L, 8L);
+
+        // Assert
+        assertEquals(4590L, first);
+        assertEquals(12000L, second);
+        assertEquals(PriceMatrix.NO_PRICE, missing);
+        verify(productPriceRepository, times(1)).findAllSalePrices();
+        assertEquals(2.0, meterRegistry.get("chocolog.prices.matrix.lookups").tag("result", "hit").counter().count());
+        assertEquals(1L, meterRegistry.get("chocolog.prices.matrix.rebuild").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar a matriz após invalidação")
+    void findSalePriceCents_ShouldRebuild_WhenInvalidated() {
+        // Arrange
+        when(productPriceRepository.findAllSalePrices())
+                .thenReturn(List.of(new SalePriceRow(1L, 1L, new BigDecimal("10.00"))))
+                .thenReturn(List.of(new SalePriceRow(1L, 1L, new BigDecimal("12.50"))));
+        priceMatrix.findSalePriceCents(1L, 1L);
+
+        // Act
+        priceMatrix.invalidate();
+        long result = priceMatrix.findSalePriceCents(1L, 1L);
+
+        // Assert
+        assertEquals(1250L, result);
+        verify(productPriceRepository, times(2)).findAllSalePrices();
+    }
+}
@@ -17,10 +17,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -53,6 +56,10 @@ public class PrintBatchServiceTest {
     private PdfGenerationService pdfGenerationService;
     @Mock
     private PrintBatchMapper printBatchMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private PrintBatchService printBatchService;
@@ -192,12 +199,18 @@ public class PrintBatchServiceTest {
         verify(printBatchRepository, times(2)).save(any(PrintBatch.class));
         verify(orderItemRepository, times(1)).findAllById(mockRequestDTO.getOrderItemIds());
         verify(printBatchItemRepository, times(1)).saveAllAndFlush(anyList());
+        verify(orderItemRepository, times(1)).markPrinted(List.of(mockOrderItem1.getId(), mockOrderItem2.getId()));
 
         verify(pdfGenerationService, times(1)).generateBatchPdf(newBatch);
         verify(fileStorageService, times(1)).save(pdfData, batchId);
 
         verify(printBatchRepository, times(2)).findFullyLoadedBatchById(batchId);
         verify(printBatchMapper, times(1)).toDetailResponseDTO(newBatch);
+
+        InOrder inOrder = inOrder(orderItemRepository, transactionManager, pdfGenerationService);
+        inOrder.verify(orderItemRepository).markPrinted(anyList());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(pdfGenerationService).generateBatchPdf(newBatch);
     }
 
     @Test
@@ -26,6 +26,8 @@ public class ProductPriceServiceTest {
 
     @Mock
     private ProductPriceRepository productPriceRepository;
+    @Mock
+    private PriceMatrix priceMatrix;
 
     @InjectMocks
     private ProductPriceService productPriceService;
@@ -66,10 +68,27 @@ public class ProductPriceServiceTest {
                 .size(mockSize)
                 .salePrice(new BigDecimal("12.00"))
                 .build();
+
+        lenient().when(priceMatrix.findSalePriceCents(anyLong(), anyLong())).thenReturn(PriceMatrix.NO_PRICE);
     }
 
     // --- Testes para calculateUnitPrice ---
 
+    @Test
+    @DisplayName("Deve calcular o preço pela matriz de preços sem consultar o banco")
+    void calculateUnitPrice_ShouldUsePriceMatrix_WhenPricesAreInSnapshot() {
+        // Arrange
+        when(priceMatrix.findSalePriceCents(1L, 1L)).thenReturn(1000L);
+        when(priceMatrix.findSalePriceCents(2L, 1L)).thenReturn(1025L);
+
+        // Act
+        BigDecimal result = productPriceService.calculateUnitPrice(mockSize, mockFlavor1, mockFlavor2);
+
+        // Assert
+        assertEquals(new BigDecimal("10.13"), result);
+        verifyNoInteractions(productPriceRepository);
+    }
+
     @Test
     @DisplayName("Deve retornar o preço do primeiro sabor quando o segundo sabor for nulo")
     void calculateUnitPrice_ShouldReturnPriceOfFirstFlavor_WhenSecondFlavorIsNull() {
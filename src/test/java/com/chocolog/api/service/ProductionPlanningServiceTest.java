@@ -0,0 +1,120 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.ProductionPlanResponseDTO;
+import com.chocolog.api.repository.OrderItemRepository;
+import com.chocolog.api.repository.ProductionPlanRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para ProductionPlanningService")
+public class ProductionPlanningServiceTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+    @Mock
+    private StockReservationLedger stockReservationLedger;
+
+    @InjectMocks
+    private ProductionPlanningService productionPlanningService;
+
+    private final LocalDate firstDay = LocalDate.of(2026, 3, 27);
+    private final LocalDate secondDay = firstDay.plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productionPlanningService, "cacheTtlMillis", 300000L);
+    }
+
+    @Test
+    @DisplayName("Deve descontar o estoque livre dos primeiros dias e não descontar de combinações de sabores")
+    void findPlan_ShouldAllocateStockToEarliestDays_WhenItemHasSingleFlavor() {
+        // Arrange
+        when(orderItemRepository.sumPendingOnDemandQuantities(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        row(firstDay, null, 3L),
+                        row(firstDay, 2L, 4L),
+                        row(secondDay, null, 5L)));
+        when(stockReservationLedger.findAvailable(1L, 5L)).thenReturn(Optional.of(6));
+
+        // Act
+        List<ProductionPlanResponseDTO> plan = productionPlanningService.findPlan(firstDay, secondDay);
+
+        // Assert
+        assertEquals(3, plan.size());
+        assertEquals(0, plan.get(0).getQuantityToProduce());
+        assertNull(plan.get(1).getAvailableStock());
+        assertEquals(4, plan.get(1).getQuantityToProduce());
+        assertEquals(3, plan.get(2).getAvailableStock());
+        assertEquals(2, plan.get(2).getQuantityToProduce());
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o cache e recarregar apenas o dia alterado")
+    void findPlan_ShouldReloadOnlyChangedDay_WhenItemChanges() {
+        // Arrange
+        when(orderItemRepository.sumPendingOnDemandQuantities(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        productionPlanningService.findPlan(firstDay, secondDay);
+        productionPlanningService.findPlan(firstDay, secondDay);
+
+        // Act
+        productionPlanningService.onOrderChange(new OrderChangeEvent(OrderChangeEvent.Type.ORDER_ITEM_UPDATED, 1L, 10L,
+                "PENDING", secondDay.atTime(15, 0), null, null, null, null, LocalDateTime.now()));
+        productionPlanningService.findPlan(firstDay, secondDay);
+
+        // Assert
+        verify(orderItemRepository).sumPendingOnDemandQuantities(firstDay.atStartOfDay(), secondDay.atTime(23, 59, 59, 999999999));
+        verify(orderItemRepository).sumPendingOnDemandQuantities(secondDay.atStartOfDay(), secondDay.atTime(23, 59, 59, 999999999));
+        verifyNoMoreInteractions(orderItemRepository);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar no cache dias lidos enquanto um pedido mudava")
+    void findPlan_ShouldNotCacheRows_WhenOrderChangesWhileLoading() {
+        // Arrange
+        when(orderItemRepository.sumPendingOnDemandQuantities(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    productionPlanningService.onOrderChange(new OrderChangeEvent(OrderChangeEvent.Type.ORDER_UPDATED, 1L, null,
+                            "PENDING", firstDay.atTime(10, 0), null, null, null, null, LocalDateTime.now()));
+                    return List.of();
+                })
+                .thenReturn(List.of());
+
+        // Act
+        productionPlanningService.findPlan(firstDay, firstDay);
+        productionPlanningService.findPlan(firstDay, firstDay);
+        productionPlanningService.findPlan(firstDay, firstDay);
+
+        // Assert
+        verify(orderItemRepository, times(2)).sumPendingOnDemandQuantities(firstDay.atStartOfDay(), firstDay.atTime(23, 59, 59, 999999999));
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o período é maior que o permitido")
+    void findPlan_ShouldThrowIllegalArgumentException_WhenRangeIsTooLong() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> productionPlanningService.findPlan(firstDay, firstDay.plusDays(90)));
+        verifyNoInteractions(orderItemRepository);
+    }
+
+    private ProductionPlanRow row(LocalDate day, Long flavor2Id, Long quantity) {
+        return new ProductionPlanRow(day, 5L, "Médio", 1L, "Chocolate", flavor2Id,
+                flavor2Id != null ? "Morango" : null, quantity);
+    }
+}
@@ -0,0 +1,118 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.response.reports.ReportsDTO;
+import com.chocolog.api.model.PeriodType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários para ReportCache")
+public class ReportCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReportCache reportCache;
+
+    private final LocalDateTime marchStart = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private final LocalDateTime marchEnd = LocalDateTime.of(2025, 3, 31, 23, 59, 59);
+    private final LocalDateTime aprilStart = LocalDateTime.of(2025, 4, 1, 0, 0);
+    private final LocalDateTime aprilEnd = LocalDateTime.of(2025, 4, 30, 23, 59, 59);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reportCache = new ReportCache(meterRegistry, 2, 60000);
+    }
+
+    @Test
+    @DisplayName("Deve calcular o relatório uma vez e servir as próximas consultas da memória")
+    void get_ShouldComputeOnce_WhenSamePeriodIsRequestedAgain() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ReportsDTO> loader = countingLoader(loads);
+
+        // Act
+        ReportsDTO first = reportCache.get(marchStart, marchEnd, PeriodType.WEEK, loader);
+        ReportsDTO second = reportCache.get(marchStart, marchEnd, PeriodType.WEEK, loader);
+        reportCache.get(marchStart, marchEnd, PeriodType.DAY, loader);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.get("chocolog.reports.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(2.0, meterRegistry.get("chocolog.reports.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas os períodos que contêm o dia alterado")
+    void evictDays_ShouldEvictOnlyPeriodsContainingTheDay() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ReportsDTO> loader = countingLoader(loads);
+        reportCache.get(marchStart, marchEnd, PeriodType.WEEK, loader);
+        reportCache.get(aprilStart, aprilEnd, PeriodType.WEEK, loader);
+
+        // Act
+        reportCache.evictDays(List.of(LocalDate.of(2025, 4, 15)));
+        reportCache.get(marchStart, marchEnd, PeriodType.WEEK, loader);
+        reportCache.get(aprilStart, aprilEnd, PeriodType.WEEK, loader);
+
+        // Assert
+        assertEquals(3, loads.get());
+        assertEquals(1.0, meterRegistry.get("chocolog.reports.cache.evictions").tag("cause", "invalidated").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o período menos usado quando o limite é atingido")
+    void get_ShouldEvictLeastRecentlyUsed_WhenCacheIsFull() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ReportsDTO> loader = countingLoader(loads);
+        reportCache.get(marchStart, marchEnd, PeriodType.WEEK, loader);
+        reportCache.get(aprilStart, aprilEnd, PeriodType.WEEK, loader);
+        reportCache.get(marchStart, marchEnd, PeriodType.WEEK, loader);
+
+        // Act
+        reportCache.get(marchStart, aprilEnd, PeriodType.MONTH, loader);
+        reportCache.get(marchStart, marchEnd, PeriodType.WEEK, loader);
+
+        // Assert
+        assertEquals(3, loads.get());
+        assertEquals(1.0, meterRegistry.get("chocolog.reports.cache.evictions").tag("cause", "size").counter().count());
+        assertEquals(2.0, meterRegistry.get("chocolog.reports.cache.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar relatório calculado enquanto um dia era invalidado")
+    void get_ShouldNotCache_WhenInvalidatedWhileLoading() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ReportsDTO> invalidatingLoader = () -> {
+            loads.incrementAndGet();
+            reportCache.evictDays(List.of(LocalDate.of(2025, 3, 5)));
+            return ReportsDTO.builder().build();
+        };
+
+        // Act
+        reportCache.get(marchStart, marchEnd, PeriodType.WEEK, invalidatingLoader);
+        reportCache.get(marchStart, marchEnd, PeriodType.WEEK, invalidatingLoader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<ReportsDTO> countingLoader(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return ReportsDTO.builder().build();
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.exception.ReportUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Testes Unitários para ReportQueryExecutor")
+public class ReportQueryExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ReportQueryExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve lançar ReportUnavailableException BUSY quando a fila de relatórios está cheia")
+    void submit_ShouldThrowBusy_WhenQueueIsFull() {
+        // Arrange
+        executor = new ReportQueryExecutor(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 1, 5000);
+        for (int i = 0; i < 17; i++) {
+            executor.submit("blocked", this::waitForRelease);
+        }
+
+        // Act
+        ReportUnavailableException ex = assertThrows(ReportUnavailableException.class,
+                () -> executor.submit("rejected", () -> 1));
+
+        // Assert
+        assertEquals(ReportUnavailableException.Reason.BUSY, ex.getReason());
+        assertEquals(5, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("Deve lançar ReportUnavailableException TIMED_OUT quando a consulta excede o tempo limite")
+    void await_ShouldThrowTimedOut_WhenQueryExceedsTimeout() {
+        // Arrange
+        executor = new ReportQueryExecutor(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 1, 50);
+        CompletableFuture<Integer> future = executor.submit("slow", this::waitForRelease);
+
+        // Act
+        ReportUnavailableException ex = assertThrows(ReportUnavailableException.class, () -> executor.await(future));
+
+        // Assert
+        assertEquals(ReportUnavailableException.Reason.TIMED_OUT, ex.getReason());
+        assertTrue(ex.getMessage().contains("slow"));
+    }
+
+    private Integer waitForRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+}
@@ -3,22 +3,25 @@ package com.chocolog.api.service;
 import com.chocolog.api.dto.response.reports.*;
 import com.chocolog.api.model.OrderStatus;
 import com.chocolog.api.model.PeriodType;
-import com.chocolog.api.repository.ChargeRepository;
-import com.chocolog.api.repository.OrderItemRepository;
 import com.chocolog.api.repository.PaymentRepository;
 import com.chocolog.api.repository.ReportRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,16 +30,14 @@ import static org.mockito.Mockito.*;
 @DisplayName("Testes Unitários para ReportService")
 public class ReportServiceTest {
 
-    @Mock
-    private OrderItemRepository orderItemRepository;
-    @Mock
-    private ChargeRepository chargeRepository;
     @Mock
     private PaymentRepository paymentRepository;
     @Mock
     private ReportRepository reportRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
-    @InjectMocks
+    private ReportQueryExecutor reportQueryExecutor;
     private ReportService reportService;
 
     private LocalDateTime startDate;
@@ -55,6 +56,10 @@ public class ReportServiceTest {
 
     @BeforeEach
     void setUp() {
+        reportQueryExecutor = new ReportQueryExecutor(transactionManager, new SimpleMeterRegistry(), 4, 5000);
+        reportService = new ReportService(paymentRepository, reportRepository, reportQueryExecutor,
+                new ReportCache(new SimpleMeterRegistry(), 10, 60000));
+
         startDate = LocalDateTime.of(2025, 1, 1, 0, 0);
         endDate = LocalDateTime.of(2025, 1, 31, 23, 59);
 
@@ -63,19 +68,24 @@ public class ReportServiceTest {
         mockOnDemandVsStock = List.of(new OnDemandVsStockDTO("STOCK", 50));
 
         mockSalesByDay = List.of(new SalesByPeriodDTO("2025-01-01", 5));
-        mockSalesByWeek = List.of(new SalesByPeriodDTO("2025-W1", 20));
+        mockSalesByWeek = List.of(new SalesByPeriodDTO("2025-W01", 20));
         mockSalesByMonth = List.of(new SalesByPeriodDTO("2025-01", 100));
 
         mockRevenueByDay = List.of(new RevenueVsReceivedDTO("2025-01-01", BigDecimal.TEN, BigDecimal.ONE));
-        mockRevenueByWeek = List.of(new RevenueVsReceivedDTO("2025-W1", BigDecimal.TEN, BigDecimal.ONE));
+        mockRevenueByWeek = List.of(new RevenueVsReceivedDTO("2025-W01", BigDecimal.TEN, BigDecimal.ONE));
         mockRevenueByMonth = List.of(new RevenueVsReceivedDTO("2025-01", BigDecimal.TEN, BigDecimal.ONE));
 
         mockReceivedByMethod = List.of(new ReceivedByPaymentMethodDTO("PIX", BigDecimal.TEN));
     }
 
+    @AfterEach
+    void tearDown() {
+        reportQueryExecutor.shutdown();
+    }
+
     private void mockKpiCalls(Integer sold, BigDecimal revenue, BigDecimal received, BigDecimal profit) {
-        when(orderItemRepository.sumQuantityForOrders(startDate, endDate)).thenReturn(sold);
-        when(chargeRepository.sumTotalAmountForOrders(startDate, endDate)).thenReturn(revenue);
+        when(reportRepository.sumSoldQuantity(startDate, endDate)).thenReturn(sold);
+        when(reportRepository.sumChargedAmount(startDate, endDate)).thenReturn(revenue);
         when(paymentRepository.sumPaidAmount(startDate, endDate)).thenReturn(received);
         when(reportRepository.calculateEstimatedProfit(startDate, endDate)).thenReturn(profit);
     }
@@ -209,4 +219,48 @@ public class ReportServiceTest {
         assertEquals(startDate.toString(), result.getPeriodStart());
         assertEquals(endDate.toString(), result.getPeriodEnd());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve executar as consultas do painel em paralelo, cada uma em sua própria transação")
+    void getDashboardReports_ShouldRunQueriesConcurrently() {
+        // Arrange
+        mockKpiCalls(100, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.ONE);
+        mockCommonReportCalls();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Answer<List<?>> waitForOtherQuery = invocation -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Queries did not run concurrently.");
+            }
+            return invocation.getMethod().getName().startsWith("getSales") ? mockSalesByWeek : mockRevenueByWeek;
+        };
+        when(reportRepository.getSalesByWeek(startDate, endDate)).thenAnswer(waitForOtherQuery);
+        when(reportRepository.getRevenueVsReceivedByWeek(startDate, endDate)).thenAnswer(waitForOtherQuery);
+
+        // Act
+        ReportsDTO result = reportService.getDashboardReports(startDate, endDate, PeriodType.WEEK);
+
+        // Assert
+        assertEquals(mockSalesByWeek, result.getSalesByPeriod());
+        assertEquals(mockRevenueByWeek, result.getFinancials().getRevenueVsReceivedByPeriod());
+        verify(transactionManager, times(10)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalStateException quando uma consulta excede o tempo limite")
+    void getDashboardReports_ShouldThrowException_WhenQueryTimesOut() {
+        // Arrange
+        reportQueryExecutor.shutdown();
+        reportQueryExecutor = new ReportQueryExecutor(transactionManager, new SimpleMeterRegistry(), 4, 100);
+        reportService = new ReportService(paymentRepository, reportRepository, reportQueryExecutor,
+                new ReportCache(new SimpleMeterRegistry(), 10, 60000));
+        when(reportRepository.getSalesByWeek(startDate, endDate)).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return mockSalesByWeek;
+        });
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> reportService.getDashboardReports(startDate, endDate, PeriodType.WEEK));
+    }
+}
@@ -0,0 +1,175 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.dto.request.OrderItemRequestDTO;
+import com.chocolog.api.dto.request.OrderRequestDTO;
+import com.chocolog.api.dto.request.PaymentRequestDTO;
+import com.chocolog.api.dto.response.reports.RevenueVsReceivedDTO;
+import com.chocolog.api.model.*;
+import com.chocolog.api.repository.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the revenue vs received series against per-charge payment totals on a dataset where every order has
+ * several payments, and times it against the old charge-to-payments join that counted each charge once per payment.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:revenue-vs-received-benchmark;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("Benchmark da série de faturado vs recebido")
+public class RevenueVsReceivedBenchmarkTest {
+
+    private static final int ORDERS = 300;
+    private static final int PAYMENTS_PER_ORDER = 3;
+    private static final int DAYS = 60;
+
+    private static final String EXPECTED_BY_DAY = """
+        SELECT CAST(o.creation_date AS DATE), SUM(c.total_amount), SUM(COALESCE(p.paid, 0))
+        FROM orders o
+        JOIN charges c ON c.order_id = o.id AND c.active = TRUE
+        LEFT JOIN (
+            SELECT charge_id, SUM(paid_amount) AS paid
+            FROM payments
+            WHERE active = TRUE
+            GROUP BY charge_id
+        ) p ON p.charge_id = c.id
+        WHERE o.creation_date >= ? AND o.creation_date < ?
+        AND o.status <> 'CANCELLED' AND o.active = TRUE
+        GROUP BY CAST(o.creation_date AS DATE)
+    """;
+
+    private static final String FAN_OUT_TOTAL = """
+        SELECT SUM(c.total_amount)
+        FROM orders o
+        JOIN charges c ON c.order_id = o.id AND c.active = TRUE
+        LEFT JOIN payments p ON p.charge_id = c.id AND p.active = TRUE
+        WHERE o.creation_date >= ? AND o.creation_date < ?
+        AND o.status <> 'CANCELLED' AND o.active = TRUE
+    """;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+    @Autowired
+    private ReportRepository reportRepository;
+    @Autowired
+    private ChargeRepository chargeRepository;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private SizeRepository sizeRepository;
+    @Autowired
+    private FlavorRepository flavorRepository;
+    @Autowired
+    private ProductPriceRepository productPriceRepository;
+    @Autowired
+    private StockRepository stockRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve somar cada cobrança uma única vez mesmo com vários pagamentos por pedido")
+    void getRevenueVsReceived_ShouldCountEachChargeOnce_WhenOrdersHaveSeveralPayments() {
+        // Arrange
+        Customer customer = customerRepository.save(Customer.builder().name("Cliente").phone("11999999999").isReseller(false).build());
+        Employee employee = employeeRepository.save(Employee.builder().name("Caixa").login("revenue-benchmark").passwordHash("x").role(Role.ADMIN).build());
+        Size size = sizeRepository.save(Size.builder().name("500g").build());
+        Flavor flavor = flavorRepository.save(Flavor.builder().name("Trufado").build());
+        productPriceRepository.save(ProductPrice.builder().flavor(flavor).size(size)
+                .salePrice(new BigDecimal("90.00")).costPrice(new BigDecimal("35.00")).build());
+        stockRepository.save(Stock.builder().flavor(flavor).size(size)
+                .totalQuantity(ORDERS * 3).remainingQuantity(ORDERS * 3).build());
+
+        for (int i = 0; i < ORDERS; i++) {
+            Long orderId = orderService.create(customer.getId(), buildOrder(size, flavor, i % 3 + 1), employee.getId()).getId();
+            BigDecimal totalAmount = chargeRepository.findByOrderId(orderId).orElseThrow().getTotalAmount();
+            BigDecimal installment = totalAmount.divide(BigDecimal.valueOf(PAYMENTS_PER_ORDER + 1), 2, RoundingMode.DOWN);
+            for (int p = 0; p < PAYMENTS_PER_ORDER; p++) {
+                paymentService.addPayment(customer.getId(), orderId, employee.getId(), PaymentRequestDTO.builder()
+                        .paidAmount(installment)
+                        .paymentMethod(p % 2 == 0 ? "PIX" : "CASH")
+                        .paymentDate(LocalDateTime.now())
+                        .build());
+            }
+        }
+
+        dailySalesRollupService.awaitQueuedRefreshes();
+        jdbcTemplate.update("UPDATE orders SET creation_date = DATEADD('DAY', -MOD(id, ?), creation_date), creation_day = NULL", DAYS);
+        dailySalesRollupService.rebuild();
+
+        LocalDateTime startDate = LocalDate.now().minusDays(DAYS).atStartOfDay();
+        LocalDateTime endDate = LocalDate.now().atTime(23, 59, 59);
+        LocalDateTime endExclusive = LocalDate.now().plusDays(1).atStartOfDay();
+
+        Map<String, BigDecimal[]> expected = new HashMap<>();
+        jdbcTemplate.query(EXPECTED_BY_DAY, rs -> {
+            expected.put(rs.getDate(1).toLocalDate().toString(), new BigDecimal[]{rs.getBigDecimal(2), rs.getBigDecimal(3)});
+        }, startDate, endExclusive);
+
+        // Act
+        long start = System.nanoTime();
+        BigDecimal fanOutRevenue = jdbcTemplate.queryForObject(FAN_OUT_TOTAL, BigDecimal.class, startDate, endExclusive);
+        long fanOutMicros = (System.nanoTime() - start) / 1_000;
+
+        start = System.nanoTime();
+        List<RevenueVsReceivedDTO> byDay = reportRepository.getRevenueVsReceivedByDay(startDate, endDate);
+        long byDayMicros = (System.nanoTime() - start) / 1_000;
+        List<RevenueVsReceivedDTO> byWeek = reportRepository.getRevenueVsReceivedByWeek(startDate, endDate);
+        List<RevenueVsReceivedDTO> byMonth = reportRepository.getRevenueVsReceivedByMonth(startDate, endDate);
+
+        // Assert
+        System.out.printf("%d orders with %d payments each: fan-out join took %d us, day series took %d us.%n",
+                ORDERS, PAYMENTS_PER_ORDER, fanOutMicros, byDayMicros);
+
+        assertEquals(expected.size(), byDay.size());
+        for (RevenueVsReceivedDTO day : byDay) {
+            BigDecimal[] totals = expected.get(day.getPeriod());
+            assertNotNull(totals, "Unexpected day " + day.getPeriod());
+            assertEquals(0, totals[0].compareTo(day.getRevenue()), "Revenue on " + day.getPeriod());
+            assertEquals(0, totals[1].compareTo(day.getReceived()), "Received on " + day.getPeriod());
+        }
+
+        BigDecimal expectedRevenue = sum(expected, 0);
+        BigDecimal expectedReceived = sum(expected, 1);
+        assertEquals(0, expectedRevenue.compareTo(fanOutRevenue.divide(BigDecimal.valueOf(PAYMENTS_PER_ORDER))));
+        for (List<RevenueVsReceivedDTO> series : List.of(byWeek, byMonth)) {
+            assertEquals(0, expectedRevenue.compareTo(series.stream().map(RevenueVsReceivedDTO::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add)));
+            assertEquals(0, expectedReceived.compareTo(series.stream().map(RevenueVsReceivedDTO::getReceived).reduce(BigDecimal.ZERO, BigDecimal::add)));
+        }
+    }
+
+    private BigDecimal sum(Map<String, BigDecimal[]> totalsByDay, int column) {
+        return totalsByDay.values().stream().map(totals -> totals[column]).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private OrderRequestDTO buildOrder(Size size, Flavor flavor, int quantity) {
+        OrderRequestDTO order = new OrderRequestDTO();
+        order.setExpectedPickupDate(LocalDateTime.now().plusDays(7));
+        order.setOrderItems(List.of(
+                OrderItemRequestDTO.builder().sizeId(size.getId()).flavor1Id(flavor.getId()).quantity(quantity).build()
+        ));
+        return order;
+    }
+}
@@ -0,0 +1,95 @@
+package com.chocolog.api.service;
+
+import com.chocolog.api.repository.StockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para StockReservationLedger")
+public class StockReservationLedgerTest {
+
+    @Mock
+    private StockRepository stockRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockReservationLedger ledger;
+
+    private final Long stockId = 1L;
+    private final Long flavorId = 5L;
+    private final Long sizeId = 6L;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new StockReservationLedger(stockRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve corrigir o estoque restante pela quantidade derivada e descontar só as reservas feitas depois")
+    void reconcile_ShouldCorrectRemainingToDerived_AndCountLaterReservationsOnce() {
+        // Arrange
+        when(stockRepository.findRemainingAndDerivedQuantities())
+                .thenReturn(List.<Object[]>of(new Object[]{stockId, flavorId, sizeId, 10, 8}));
+        when(stockRepository.adjustRemaining(flavorId, sizeId, -3)).thenReturn(1);
+
+        // Act
+        ledger.reconcile();
+        boolean reserved = ledger.tryReserve(flavorId, sizeId, 3);
+        ledger.flush();
+
+        // Assert
+        assertTrue(reserved);
+        assertEquals(Optional.of(5), ledger.findAvailable(flavorId, sizeId));
+        verify(stockRepository).setRemaining(stockId, 8);
+        verify(stockRepository).adjustRemaining(flavorId, sizeId, -3);
+        verify(stockRepository, never()).findRemainingQuantity(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve criar o contador com a quantidade derivada quando ainda não existe")
+    void reconcile_ShouldCreateCounterWithDerivedQuantity_WhenNoneExists() {
+        // Arrange
+        when(stockRepository.findRemainingAndDerivedQuantities())
+                .thenReturn(List.<Object[]>of(new Object[]{stockId, flavorId, sizeId, 4, 4}));
+
+        // Act
+        ledger.reconcile();
+
+        // Assert
+        assertEquals(Optional.of(4), ledger.findAvailable(flavorId, sizeId));
+        verify(stockRepository, never()).setRemaining(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve lembrar pares sem estoque e não consultá-los novamente até uma mudança de estoque")
+    void preload_ShouldCacheMissingPairs_UntilStockChanges() {
+        // Arrange
+        Long otherSizeId = 7L;
+        when(stockRepository.findRemainingQuantities(List.of(flavorId), List.of(sizeId, otherSizeId)))
+                .thenReturn(List.<Object[]>of(new Object[]{flavorId, sizeId, 4}));
+
+        // Act
+        ledger.preload(List.of(flavorId), List.of(sizeId, otherSizeId));
+        ledger.preload(List.of(flavorId), List.of(sizeId, otherSizeId));
+        boolean reservedWhileMissing = ledger.tryReserve(flavorId, otherSizeId, 1);
+        ledger.onOrderChange(OrderChangeEvent.ofStock(flavorId, otherSizeId));
+        ledger.preload(List.of(flavorId), List.of(sizeId, otherSizeId));
+
+        // Assert
+        assertFalse(reservedWhileMissing);
+        assertEquals(Optional.of(4), ledger.findAvailable(flavorId, sizeId));
+        verify(stockRepository, times(2)).findRemainingQuantities(List.of(flavorId), List.of(sizeId, otherSizeId));
+        verify(stockRepository, never()).findRemainingQuantity(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,63 @@
+package com.chocolog.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionExecution;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários para WriteTransactionTracker")
+public class WriteTransactionTrackerTest {
+
+    private final WriteTransactionTracker tracker = new WriteTransactionTracker();
+
+    @Test
+    @DisplayName("Deve manter o início da transação de escrita mais antiga até o commit")
+    void oldestOpenSince_ShouldReturnOldestWriteTransaction_UntilItCompletes() throws InterruptedException {
+        // Arrange
+        TransactionExecution first = transaction(false);
+        TransactionExecution second = transaction(false);
+        LocalDateTime before = LocalDateTime.now();
+        tracker.beforeBegin(first);
+        Thread.sleep(5);
+        tracker.beforeBegin(second);
+        Optional<LocalDateTime> whileBothOpen = tracker.oldestOpenSince();
+
+        // Act
+        tracker.afterCommit(first, null);
+        Optional<LocalDateTime> afterFirstCommit = tracker.oldestOpenSince();
+        tracker.afterRollback(second, null);
+
+        // Assert
+        assertFalse(whileBothOpen.orElseThrow().isBefore(before));
+        assertTrue(whileBothOpen.get().isBefore(afterFirstCommit.orElseThrow()));
+        assertTrue(tracker.oldestOpenSince().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar transações somente leitura e as que falharam ao iniciar")
+    void oldestOpenSince_ShouldIgnoreReadOnlyAndFailedTransactions() {
+        // Arrange
+        TransactionExecution readOnly = transaction(true);
+        TransactionExecution failed = transaction(false);
+
+        // Act
+        tracker.beforeBegin(readOnly);
+        tracker.beforeBegin(failed);
+        tracker.afterBegin(failed, new IllegalStateException("Connection refused"));
+
+        // Assert
+        assertTrue(tracker.oldestOpenSince().isEmpty());
+    }
+
+    private TransactionExecution transaction(boolean readOnly) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isNewTransaction()).thenReturn(true);
+        lenient().when(transaction.isReadOnly()).thenReturn(readOnly);
+        return transaction;
+    }
+}